@@ -0,0 +1,147 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Backend for adversarial Jordle, in the style of Absurdle: no target is fixed at
+ * {@link #reset()}. Every guess splits the answers still possible into groups that would give
+ * the same feedback, and the backend keeps the largest group and answers with its feedback.
+ * The game is won once a single answer is left and it is guessed.
+ *
+ * The live answers are packed words kept in one int array. A guess scores each of them with
+ * {@link BulkScorer} and counts the feedback codes in the same pass, then the array is compacted
+ * in place to the chosen group, so a guess allocates no more than the scorer's five-int table.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public class AdversarialBackend extends Backend {
+
+    private static final int CODES = Backend.ALL_GREEN + 1;
+
+    // Not initialised here: the Backend constructor calls reset() before field initialisers run.
+    private int[] live;
+    private int liveCount;
+    private byte[] codes;
+    private int[] counts;
+
+    /**
+     * Constructor for an adversarial backend over the shared words.txt word bank.
+     */
+    public AdversarialBackend() {
+        this(WordBank.shared());
+    }
+
+    /**
+     * Constructor for an adversarial backend over a specific word bank.
+     *
+     * @param words the word bank holding the possible answers
+     */
+    public AdversarialBackend(WordBank words) {
+        this(words, new Random());
+    }
+
+    /**
+     * Constructor for an adversarial backend over a specific word bank and random source.
+     *
+     * @param words the word bank holding the possible answers
+     * @param rand the random source, used only by {@link Backend#reset()}
+     */
+    public AdversarialBackend(WordBank words, Random rand) {
+        super(words, rand);
+    }
+
+    /**
+     * Starts a new game with every word of the bank a possible answer.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        int[] words = getWordBank().packedWords();
+        if (live == null) {
+            live = new int[words.length];
+            codes = new byte[words.length];
+            counts = new int[CODES];
+        }
+        System.arraycopy(words, 0, live, 0, words.length);
+        liveCount = words.length;
+    }
+
+    /**
+     * Scores a validated guess against the remaining answers.
+     *
+     * @param word the guessed word, compared case-insensitively
+     * @return the feedback shared by the answers kept
+     * @throws InvalidGuessException if the word is not made of five letters a to z
+     */
+    @Override
+    protected int score(CharSequence word) throws InvalidGuessException {
+        int packed = PackedWords.pack(word);
+        if (packed < 0) {
+            throw new InvalidGuessException(word.toString());
+        }
+        return score(packed);
+    }
+
+    /**
+     * Partitions the remaining answers by the feedback they would give the guess, keeps the
+     * largest group and returns its feedback. Ties go to the lower code, which has fewer greens
+     * in the earlier positions; the all-green group is only kept when it is the only one.
+     *
+     * @param word the packed guess
+     * @return the feedback shared by the answers kept
+     */
+    @Override
+    protected int score(int word) {
+        Arrays.fill(counts, 0);
+        int guessLetters = BulkScorer.letterSet(word);
+        int[] spread = BulkScorer.spread(word);
+        for (int i = 0; i < liveCount; i++) {
+            int code = BulkScorer.score(word, guessLetters, spread, live[i]);
+            codes[i] = (byte) code;
+            counts[code]++;
+        }
+        int best = ALL_GREEN;
+        for (int code = 0; code < ALL_GREEN; code++) {
+            if (counts[code] > 0 && (best == ALL_GREEN || counts[code] > counts[best])) {
+                best = code;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < liveCount; i++) {
+            if ((codes[i] & 0xFF) == best) {
+                live[kept++] = live[i];
+            }
+        }
+        liveCount = kept;
+        return best;
+    }
+
+    /**
+     * Getter for the number of answers still possible.
+     *
+     * @return the number of remaining answers
+     */
+    public int getRemaining() {
+        return liveCount;
+    }
+
+    /**
+     * Getter for an answer that is still possible, shown as "the word" when a game is lost.
+     *
+     * @return the first remaining answer in alphabetical order
+     */
+    @Override
+    public String getTarget() {
+        return PackedWords.unpack(getPackedTarget());
+    }
+
+    /**
+     * Getter for the packed form of {@link #getTarget()}.
+     *
+     * @return the first remaining answer, packed
+     */
+    @Override
+    public int getPackedTarget() {
+        return live[0];
+    }
+}
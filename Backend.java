@@ -1,69 +1,68 @@
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
-import java.util.Scanner;
 
 /**
- * Backend for a Jordle game.
+ * Backend for a Jordle game: holds the target word and scores guesses against it.
  *
- * Use this class to implement your Jordle application for HW09!
- *
- * DO NOT MODIFY THIS FILE!
+ * Started from the HW09 backend. Targets now come from the shared {@link WordBank} instead of
+ * reading words.txt per instance, guesses are checked against the bank's allowed guesses, and
+ * feedback is also available as a packed code (see {@link #checkCode(String)}) that needs no
+ * String per guess.
  *
  * @author CS 1331 TAs
- * @version 13.31
+ * @author Nawaf Alturayif
+ * @version 1.0
  */
 public class Backend {
 
-    private static final int WORD_LENGTH = 5;
+    static final int WORD_LENGTH = 5;
     private static final char GREEN = 'g';
     private static final char YELLOW = 'y';
     private static final char INCORRECT = 'i';
+
+    /**
+     * The packed feedback code of a fully correct guess, see {@link #checkCode(String)}.
+     */
+    public static final int ALL_GREEN = 242;
+
+    /**
+     * The number of guesses a player gets before the game is lost.
+     */
+    public static final int MAX_GUESSES = 6;
     private final Random rand;
-    private final List<String> words;
-    private String target;
+    private final WordBank words;
+    private final PackedWordSet allowedGuesses;
+    private int target;
 
     /**
      * Constructor for a Jordle Backend.
      *
-     * This constructor initializes a random target word from the words.txt word bank.
+     * This constructor initializes a random target word from the shared words.txt word bank.
      */
     public Backend() {
-        words = getWords();
-        rand = new Random();
-        reset();
+        this(WordBank.shared());
     }
 
     /**
-     * Reads in the words from the words.txt word bank.
+     * Constructor for a Jordle Backend over a specific word bank.
      *
-     * @return a list of five letter words as strings, or a list only containing "adieu" if
-     *         words.txt could not be found.
+     * @param words the word bank to draw targets from
+     */
+    public Backend(WordBank words) {
+        this(words, new Random());
+    }
+
+    /**
+     * Constructor for a Jordle Backend over a specific word bank and random source, so that
+     * headless runs can be reproduced.
      *
+     * @param words the word bank to draw targets from
+     * @param rand the random source used to pick targets
      */
-    private List<String> getWords() {
-        List<String> lines = new ArrayList<>();
-        File file = new File("words.txt");
-        Scanner scan = null;
-        try {
-            scan = new Scanner(file);
-            while (scan.hasNextLine()) {
-                String line = scan.nextLine();
-                if (line.length() == WORD_LENGTH) {
-                    lines.add(line.toLowerCase());
-                }
-            }
-        } catch (FileNotFoundException fnfe) {
-            System.out.println("Error in reading words.txt: " + fnfe.getMessage());
-            lines.add("adieu");
-        } finally {
-            if (scan != null) {
-                scan.close();
-            }
-        }
-        return lines;
+    public Backend(WordBank words, Random rand) {
+        this.words = words;
+        this.allowedGuesses = words.allowedGuesses();
+        this.rand = rand;
+        reset();
     }
 
     /**
@@ -71,7 +70,7 @@ public class Backend {
      * You should call this method whenever you need to reset a Jordle game.
      */
     public void reset() {
-        target = words.get(rand.nextInt(words.size()));
+        target = words.packed(rand.nextInt(words.size()));
     }
 
     /**
@@ -87,36 +86,182 @@ public class Backend {
      *
      */
     public String check(String word) throws InvalidGuessException {
+        return decode(checkCode(word));
+    }
+
+    /**
+     * Allocation-free variant of {@link #check(String)}. This method is case-insensitive.
+     *
+     * The feedback is packed as a base-3 number: the digit for position i is worth 3^i and is
+     * 0 for an incorrect letter, 1 for a yellow letter and 2 for a green letter. Codes range
+     * from 0 (all incorrect) to {@link #ALL_GREEN} (all green).
+     *
+     * @param word the word to guess
+     * @return the packed feedback code of the guess against the target
+     * @throws InvalidGuessException if the word is not a valid Jordle guess, including words
+     *         missing from the allowed guesses of the word bank.
+     */
+    public int checkCode(String word) throws InvalidGuessException {
         if (word == null || word.length() != WORD_LENGTH || word.isBlank()) {
             throw new InvalidGuessException(word);
         }
-        word = word.toLowerCase();
-        char[] targetArray = target.toCharArray();
-        char[] result = new char[WORD_LENGTH];
+        if (!allowedGuesses.contains(word)) {
+            throw new InvalidGuessException(word);
+        }
+        return score(word);
+    }
 
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            result[i] = INCORRECT;
+    /**
+     * Variant of {@link #checkCode(String)} for a guess that is already packed.
+     *
+     * @param word the packed word to guess, see {@link PackedWords}
+     * @return the packed feedback code of the guess against the target
+     * @throws InvalidGuessException if the word is not a valid packed word or is missing from
+     *         the allowed guesses of the word bank.
+     */
+    public int checkCode(int word) throws InvalidGuessException {
+        if (word < 0 || !allowedGuesses.contains(word)) {
+            throw new InvalidGuessException(word < 0 ? null : PackedWords.unpack(word));
+        }
+        return score(word);
+    }
+
+    /**
+     * Validates a guess the way {@link #checkCode(String)} does and packs it, for subclasses
+     * that score one guess against several words.
+     *
+     * @param word the word to guess, case-insensitive
+     * @return the packed word, see {@link PackedWords}
+     * @throws InvalidGuessException if the word is not a valid Jordle guess
+     */
+    protected int packGuess(String word) throws InvalidGuessException {
+        int packed = word == null ? -1 : PackedWords.pack(word);
+        if (packed < 0 || !allowedGuesses.contains(packed)) {
+            throw new InvalidGuessException(word);
         }
+        return packed;
+    }
+
+    /**
+     * Scores a guess that has passed validation. Subclasses that do not fix the target at
+     * {@link #reset()} override this and {@link #score(int)}.
+     *
+     * @param word the guessed word, compared case-insensitively
+     * @return the packed feedback code, see {@link #checkCode(String)}
+     * @throws InvalidGuessException if the subclass cannot score the word
+     */
+    protected int score(CharSequence word) throws InvalidGuessException {
+        return feedbackCode(word, target);
+    }
+
+    /**
+     * Scores a packed guess that has passed validation.
+     *
+     * @param word the packed word, see {@link PackedWords}
+     * @return the packed feedback code, see {@link #checkCode(String)}
+     * @throws InvalidGuessException if the subclass cannot score the word
+     */
+    protected int score(int word) throws InvalidGuessException {
+        return feedbackCode(word, target);
+    }
 
+    /**
+     * Computes the packed feedback code of a guess against a target without allocating.
+     *
+     * Uses the same two-pass rule as {@link #check(String)}: greens are matched first, then each
+     * remaining guess letter consumes the first unmatched target letter equal to it.
+     *
+     * @param guess the guessed word, compared case-insensitively
+     * @param answer the packed target word, see {@link PackedWords}
+     * @return the packed feedback code, see {@link #checkCode(String)}
+     */
+    static int feedbackCode(CharSequence guess, int answer) {
+        int used = 0;
+        int code = 0;
+        int weight = 1;
         for (int i = 0; i < WORD_LENGTH; i++) {
-            if (word.charAt(i) == targetArray[i]) {
-                result[i] = GREEN;
-                targetArray[i] = 0;
+            if (Character.toLowerCase(guess.charAt(i)) == 'a' + PackedWords.letter(answer, i)) {
+                used |= 1 << i;
+                code += 2 * weight;
             }
+            weight *= 3;
         }
+        int greens = used;
+        weight = 1;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((greens & (1 << i)) == 0) {
+                char c = Character.toLowerCase(guess.charAt(i));
+                for (int j = 0; j < WORD_LENGTH; j++) {
+                    if ((used & (1 << j)) == 0 && c == 'a' + PackedWords.letter(answer, j)) {
+                        used |= 1 << j;
+                        code += weight;
+                        break;
+                    }
+                }
+            }
+            weight *= 3;
+        }
+        return code;
+    }
 
+    /**
+     * Computes the packed feedback code of a packed guess against a packed target.
+     *
+     * @param guess the packed guessed word, see {@link PackedWords}
+     * @param answer the packed target word
+     * @return the packed feedback code, see {@link #checkCode(String)}
+     */
+    static int feedbackCode(int guess, int answer) {
+        int used = 0;
+        int code = 0;
+        int weight = 1;
         for (int i = 0; i < WORD_LENGTH; i++) {
-            if (result[i] == INCORRECT) {
+            if (PackedWords.letter(guess, i) == PackedWords.letter(answer, i)) {
+                used |= 1 << i;
+                code += 2 * weight;
+            }
+            weight *= 3;
+        }
+        int greens = used;
+        weight = 1;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((greens & (1 << i)) == 0) {
+                int letter = PackedWords.letter(guess, i);
                 for (int j = 0; j < WORD_LENGTH; j++) {
-                    if (word.charAt(i) == targetArray[j]) {
-                        result[i] = YELLOW;
-                        targetArray[j] = 0;
+                    if ((used & (1 << j)) == 0 && letter == PackedWords.letter(answer, j)) {
+                        used |= 1 << j;
+                        code += weight;
                         break;
                     }
                 }
             }
+            weight *= 3;
         }
+        return code;
+    }
 
+    /**
+     * Converts a packed feedback code back into its 'g', 'y' and 'i' representation.
+     *
+     * @param code a packed feedback code, see {@link #checkCode(String)}
+     * @return a five-letter String made up of 'g', 'y', or 'i's
+     */
+    public static String decode(int code) {
+        char[] result = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            switch (code % 3) {
+            case 2:
+                result[i] = GREEN;
+                break;
+            case 1:
+                result[i] = YELLOW;
+                break;
+            default:
+                result[i] = INCORRECT;
+                break;
+            }
+            code /= 3;
+        }
         return String.valueOf(result);
     }
 
@@ -126,7 +271,25 @@ public class Backend {
      * @return the target word
      */
     public String getTarget() {
+        return PackedWords.unpack(target);
+    }
+
+    /**
+     * Getter for the packed target word.
+     *
+     * @return the target word packed as described in {@link PackedWords}
+     */
+    public int getPackedTarget() {
         return target;
     }
 
+    /**
+     * Getter for the word bank targets are drawn from.
+     *
+     * @return the word bank
+     */
+    protected WordBank getWordBank() {
+        return words;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares the two board renderers, {@link LabelBoardView} and {@link CanvasBoardView}, with 1, 8
+ * and 32 boards laid out the way the game lays them out.
+ *
+ * For each case a window is shown and a scripted game is played one action per frame: a letter
+ * typed on every board, and every fifth frame a row revealed, until the boards are full and are
+ * cleared. Each frame records the time the FX thread spends on it, from the start of the
+ * animation timers (which include the canvas drawing) to the end of the CSS and layout passes,
+ * and the interval between frames, which also shows the cost of rendering once it no longer
+ * fits in a frame. Memory is the heap retained by the boards: the heap in use after a full
+ * collection with the boards shown, less the same once they are removed from the window and a
+ * few frames have let the toolkit release them. It is shown along with the number of nodes in
+ * the scene.
+ *
+ * Run with vsync off so frame intervals are not rounded up to the display's refresh rate.
+ *
+ * Usage: java -Dprism.vsync=false BoardBenchmark [frames]
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class BoardBenchmark {
+
+    private static final int[] BOARD_COUNTS = {1, 8, 32};
+    private static final String[] RESULTS = {"iiyig", "gyiii", "ggiyi", "gggyi", "ggggi", "iyiyi"};
+    private static final String LETTERS = "crane";
+    /** Frames to wait after removing the boards, so the toolkit releases them. */
+    private static final int SETTLE_FRAMES = 30;
+
+    private final Queue<Runnable> cases = new ArrayDeque<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final int frames;
+
+    /**
+     * Creates a benchmark.
+     *
+     * @param frames the number of frames to measure per case
+     */
+    private BoardBenchmark(int frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Runs every case on the JavaFX application thread and prints the results.
+     *
+     * @param args the number of frames to measure per case, 1200 if omitted
+     * @throws InterruptedException if interrupted while waiting for the results
+     */
+    public static void main(String[] args) throws InterruptedException {
+        BoardBenchmark bench = new BoardBenchmark(args.length > 0 ? Integer.parseInt(args[0]) : 1200);
+        for (boolean canvas : new boolean[] {false, true}) {
+            for (int count : BOARD_COUNTS) {
+                bench.cases.add(() -> bench.run(canvas, count));
+            }
+        }
+        Platform.startup(() -> {
+            // Each case closes its window before the next one opens.
+            Platform.setImplicitExit(false);
+            System.out.printf("%-12s %7s %9s %11s %11s %11s %11s%n", "Benchmark", "nodes",
+                "KB heap", "work p50", "work p99", "frame p50", "frame p99");
+            bench.next();
+        });
+        bench.done.await();
+        Platform.exit();
+    }
+
+    /**
+     * Starts the next case, or finishes when there are none left.
+     */
+    private void next() {
+        Runnable next = cases.poll();
+        if (next == null) {
+            done.countDown();
+        } else {
+            next.run();
+        }
+    }
+
+    /**
+     * Shows the boards of one case, plays the scripted game on them and prints the result.
+     *
+     * @param canvas true for canvas boards, false for Label boards
+     * @param count the number of boards
+     */
+    private void run(boolean canvas, int count) {
+        int rows = count == 1 ? 6 : count + 5;
+        BoardView[] boards = new BoardView[count];
+        FlowPane boardArea = new FlowPane(20, 20);
+        for (int b = 0; b < count; b++) {
+            boards[b] = canvas ? new CanvasBoardView(rows, count > 1) : new LabelBoardView(rows, count > 1);
+            boardArea.getChildren().add(boards[b].getNode());
+        }
+        Scene scene = new Scene(boardArea, 1200, 900);
+        scene.getStylesheets().add(new File("jordle.css").toURI().toString());
+        Stage stage = new Stage();
+        stage.setScene(scene);
+
+        LatencyHistogram work = new LatencyHistogram();
+        LatencyHistogram interval = new LatencyHistogram();
+        long[] frameStart = new long[1];
+        scene.addPostLayoutPulseListener(() -> {
+            if (frameStart[0] != 0) {
+                work.record(System.nanoTime() - frameStart[0]);
+                frameStart[0] = 0;
+            }
+        });
+        // Started before the boards' own timers, so it runs first in every frame.
+        new AnimationTimer() {
+            private int frame;
+            private int row;
+            private int col;
+            private long last;
+
+            @Override
+            public void handle(long now) {
+                long start = System.nanoTime();
+                // The first frames are warm-up and are not recorded.
+                boolean measure = frame >= frames / 4;
+                if (measure && last != 0) {
+                    interval.record(now - last);
+                }
+                last = now;
+                if (frame == frames + frames / 4) {
+                    stop();
+                    finish(canvas, count, scene, work, interval, stage);
+                    return;
+                }
+                if (row == rows) {
+                    for (BoardView board : boards) {
+                        board.clear();
+                    }
+                    row = 0;
+                } else if (col == LETTERS.length()) {
+                    for (BoardView board : boards) {
+                        board.reveal(row, RESULTS[row % RESULTS.length]);
+                    }
+                    row++;
+                    col = 0;
+                } else {
+                    for (BoardView board : boards) {
+                        board.setLetter(row, col, LETTERS.charAt(col));
+                    }
+                    col++;
+                }
+                if (measure) {
+                    frameStart[0] = start;
+                }
+                frame++;
+            }
+        }.start();
+        stage.show();
+    }
+
+    /**
+     * Measures the heap retained by the boards of a case, prints its result, closes its window
+     * and starts the next one.
+     *
+     * @param canvas true for canvas boards, false for Label boards
+     * @param count the number of boards
+     * @param scene the scene holding the boards
+     * @param work the FX thread time per frame
+     * @param interval the time between frames
+     * @param stage the window of the case
+     */
+    private void finish(boolean canvas, int count, Scene scene, LatencyHistogram work,
+                        LatencyHistogram interval, Stage stage) {
+        int nodes = countNodes(scene.getRoot());
+        long heapWith = usedHeap();
+        ((Pane) scene.getRoot()).getChildren().clear();
+        // The renderer holds on to removed nodes and their textures until it has drawn again.
+        new AnimationTimer() {
+            private int frame;
+
+            @Override
+            public void handle(long now) {
+                if (++frame == SETTLE_FRAMES) {
+                    stop();
+                    long heap = heapWith - usedHeap();
+                    System.out.printf("%-12s %7d %9d %8.3f ms %8.3f ms %8.3f ms %8.3f ms%n",
+                        (canvas ? "canvas" : "label") + " x" + count, nodes, heap / 1024,
+                        LatencyHistogram.millis(work.percentile(0.5)),
+                        LatencyHistogram.millis(work.percentile(0.99)),
+                        LatencyHistogram.millis(interval.percentile(0.5)),
+                        LatencyHistogram.millis(interval.percentile(0.99)));
+                    stage.close();
+                    next();
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Counts the nodes of a scene graph.
+     *
+     * @param node the root
+     * @return the number of nodes under and including the root
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Getter for the heap in use after a full collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,63 @@
+import javafx.scene.Node;
+
+/**
+ * Draws one Jordle board: a grid of letter tiles, five per row, that are typed into and then
+ * revealed a row at a time. The game tells the view what changed; the view decides how to
+ * show it.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public interface BoardView {
+
+    /**
+     * Getter for the node to place in the scene.
+     *
+     * @return the node showing the board
+     */
+    Node getNode();
+
+    /**
+     * Getter for the number of rows.
+     *
+     * @return the number of guesses the board has room for
+     */
+    int getRows();
+
+    /**
+     * Shows a typed letter.
+     *
+     * @param row the row
+     * @param col the position in the row
+     * @param letter the lowercase letter
+     */
+    void setLetter(int row, int col, char letter);
+
+    /**
+     * Removes a typed letter.
+     *
+     * @param row the row
+     * @param col the position in the row
+     */
+    void clearLetter(int row, int col);
+
+    /**
+     * Colours a row with the feedback for the guess typed into it.
+     *
+     * @param row the row
+     * @param result the feedback, 'g', 'y' or 'i' per letter as in {@link Backend#check(String)}
+     */
+    void reveal(int row, String result);
+
+    /**
+     * Marks the board as solved or not, so that it can be shown differently.
+     *
+     * @param solved whether the board's target was guessed
+     */
+    void setSolved(boolean solved);
+
+    /**
+     * Empties every tile for a new game.
+     */
+    void clear();
+}
@@ -0,0 +1,184 @@
+/**
+ * Scores one guess against many packed targets at once, writing the feedback codes into a
+ * caller-supplied array.
+ *
+ * Letters are compared for all five positions together with SWAR (SIMD within a register)
+ * arithmetic on the packed ints: one step finds every green, and one step per non-green guess
+ * letter finds the target positions it could turn yellow. The results match
+ * {@link Backend#feedbackCode(int, int)} exactly, including repeated letters; BulkScorerTest in
+ * the jmh build checks that they do.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class BulkScorer {
+
+    private static final int LENGTH = Backend.WORD_LENGTH;
+    private static final int LETTER_BITS = PackedWords.LETTER_BITS;
+    /** The top bit of every five-bit letter field. */
+    private static final int HIGH_BITS = 0b10000_10000_10000_10000_10000;
+    /** The low four bits of every five-bit letter field. */
+    private static final int LOW_BITS = 0b01111_01111_01111_01111_01111;
+    /** A one in the lowest bit of every five-bit letter field. */
+    private static final int ONES = 0b00001_00001_00001_00001_00001;
+    /** The top bit of the letter field of each position. */
+    private static final int[] FIELD_HIGH_BIT = new int[LENGTH];
+    /** The feedback code of each subset of green positions, indexed by bit position. */
+    private static final int[] GREEN_CODES = new int[1 << LENGTH];
+
+    static {
+        for (int i = 0; i < LENGTH; i++) {
+            FIELD_HIGH_BIT[i] = 1 << (LETTER_BITS * (LENGTH - 1 - i) + LETTER_BITS - 1);
+        }
+        for (int greens = 0; greens < GREEN_CODES.length; greens++) {
+            int code = 0;
+            int weight = 1;
+            for (int i = 0; i < LENGTH; i++) {
+                if ((greens & (1 << i)) != 0) {
+                    code += 2 * weight;
+                }
+                weight *= 3;
+            }
+            GREEN_CODES[greens] = code;
+        }
+    }
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private BulkScorer() {
+    }
+
+    /**
+     * Scores a guess against a range of targets.
+     *
+     * @param guess the packed guess, see {@link PackedWords}
+     * @param targets the packed targets
+     * @param from the index of the first target to score
+     * @param to one past the index of the last target to score
+     * @param out receives the feedback code of targets[i] at out[i - from], as an unsigned byte
+     */
+    public static void score(int guess, int[] targets, int from, int to, byte[] out) {
+        score(guess, targets, from, to, out, 0);
+    }
+
+    /**
+     * Scores a guess against a range of targets into a slice of a larger array, such as one row
+     * of a matrix.
+     *
+     * @param guess the packed guess, see {@link PackedWords}
+     * @param targets the packed targets
+     * @param from the index of the first target to score
+     * @param to one past the index of the last target to score
+     * @param out receives the feedback code of targets[i] at out[offset + i - from], as an
+     *            unsigned byte
+     * @param offset the index in out of the first target's code
+     */
+    public static void score(int guess, int[] targets, int from, int to, byte[] out, int offset) {
+        int guessLetters = letterSet(guess);
+        int[] spread = spread(guess);
+        for (int t = from; t < to; t++) {
+            out[offset + t - from] = (byte) score(guess, guessLetters, spread, targets[t]);
+        }
+    }
+
+    /**
+     * Scores a guess against every target.
+     *
+     * @param guess the packed guess, see {@link PackedWords}
+     * @param targets the packed targets
+     * @param out receives the feedback code of each target, as an unsigned byte
+     */
+    public static void score(int guess, int[] targets, byte[] out) {
+        score(guess, targets, 0, targets.length, out);
+    }
+
+    /**
+     * Scores a guess against one target.
+     *
+     * @param guess the packed guess
+     * @param guessLetters the set of letters in the guess, see {@link #letterSet(int)}
+     * @param spread each letter of the guess copied into all five fields, see
+     *               {@link #spread(int)}
+     * @param target the packed target
+     * @return the packed feedback code
+     */
+    static int score(int guess, int guessLetters, int[] spread, int target) {
+        int greenBits = matches(guess ^ target);
+        int code = GREEN_CODES[compress(greenBits)];
+        if (greenBits == HIGH_BITS || (guessLetters & letterSet(target)) == 0) {
+            return code;
+        }
+        // Second pass: each non-green guess letter, left to right, consumes any unused target
+        // position holding the same letter. Which position it takes does not change the result,
+        // so all five are compared at once and the lowest free one is taken.
+        int used = greenBits;
+        int weight = 1;
+        for (int i = 0; i < LENGTH; i++) {
+            if ((greenBits & FIELD_HIGH_BIT[i]) == 0) {
+                int free = matches(spread[i] ^ target) & ~used;
+                if (free != 0) {
+                    used |= free & -free;
+                    code += weight;
+                }
+            }
+            weight *= 3;
+        }
+        return code;
+    }
+
+    /**
+     * Finds the zero letter fields of a packed value. A field of guess ^ target is zero exactly
+     * where the letters match. Adding LOW_BITS to the low four bits carries into the top bit of
+     * every non-zero field without spilling into the next field.
+     *
+     * @param diff the exclusive or of two packed words
+     * @return HIGH_BITS restricted to the fields of diff that are zero
+     */
+    private static int matches(int diff) {
+        return ~((((diff & LOW_BITS) + LOW_BITS) | diff)) & HIGH_BITS;
+    }
+
+    /**
+     * Copies each letter of a packed word into all five letter fields.
+     *
+     * @param packed the packed word
+     * @return one value per position with that position's letter in every field
+     */
+    static int[] spread(int packed) {
+        int[] spread = new int[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            spread[i] = PackedWords.letter(packed, i) * ONES;
+        }
+        return spread;
+    }
+
+    /**
+     * Collects the set of letters in a packed word.
+     *
+     * @param packed the packed word
+     * @return a bitmask with bit c set if letter c occurs in the word
+     */
+    static int letterSet(int packed) {
+        int set = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            set |= 1 << ((packed >>> (LETTER_BITS * i)) & 31);
+        }
+        return set;
+    }
+
+    /**
+     * Turns the top bits of the five letter fields into a five-bit mask indexed by position,
+     * where position 0 is the first letter and so the highest field.
+     *
+     * @param highBits a subset of HIGH_BITS
+     * @return bit i set if the field of position i had its top bit set
+     */
+    private static int compress(int highBits) {
+        return ((highBits >>> 24) & 1)
+            | ((highBits >>> 18) & 2)
+            | ((highBits >>> 12) & 4)
+            | ((highBits >>> 6) & 8)
+            | (highBits & 16);
+    }
+}
@@ -0,0 +1,305 @@
+import javafx.animation.AnimationTimer;
+import javafx.css.PseudoClass;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Board view that draws every tile, letter and colour onto one Canvas, so a board is a single
+ * node however many rows it has.
+ *
+ * Changes only mark their row dirty. An AnimationTimer, running only while there is something
+ * to draw, repaints the dirty rows once per frame and drives the reveal animation, in which
+ * each tile of the row flips over to its colour a little after the one before it. The colours
+ * are those jordle.css gives a {@link Tile}: they are read once per palette from tiles styled
+ * with the scene's own stylesheets, so both board views change together with the stylesheet.
+ * Dark mode is read from the scene's root when rows are drawn.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class CanvasBoardView implements BoardView {
+
+    private static final PseudoClass SOLVED = PseudoClass.getPseudoClass("solved");
+    private static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
+    private static final long FLIP_NANOS = 250_000_000L;
+    private static final long STAGGER_NANOS = 100_000_000L;
+    private static final long REVEAL_NANOS = FLIP_NANOS + (Backend.WORD_LENGTH - 1) * STAGGER_NANOS;
+
+    /** The results of the palette's tile states, in palette order. */
+    private static final char[] STATES = {Tile.HIDDEN, 'g', 'y', 'i'};
+
+    /** The light and dark palettes of {@link #paletteSheets}, read when first needed. */
+    private static final Paint[][] PALETTES = new Paint[2][];
+    private static List<String> paletteSheets;
+
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final double tileSize;
+    private final double gap;
+    private final double border;
+    private final char[][] letters;
+    private final char[][] results;
+    private final long[] revealStart;
+    private final boolean[] revealing;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            frame(now);
+        }
+    };
+    private long dirty;
+    private boolean running;
+
+    /**
+     * Creates a board.
+     *
+     * @param rows the number of rows, at most 64
+     * @param compact whether to use small tiles
+     */
+    public CanvasBoardView(int rows, boolean compact) {
+        if (rows < 1 || rows > Long.SIZE) {
+            throw new IllegalArgumentException("Rows must be between 1 and " + Long.SIZE + ": " + rows);
+        }
+        tileSize = compact ? 24 : 60;
+        gap = compact ? 2 : 10;
+        border = compact ? 1 : 2;
+        letters = new char[rows][Backend.WORD_LENGTH];
+        results = new char[rows][Backend.WORD_LENGTH];
+        revealStart = new long[rows];
+        revealing = new boolean[rows];
+        canvas = new Canvas(Backend.WORD_LENGTH * (tileSize + gap) - gap, rows * (tileSize + gap) - gap);
+        canvas.getStyleClass().add("board");
+        g = canvas.getGraphicsContext2D();
+        g.setFont(Font.font(Font.getDefault().getFamily(), FontWeight.BOLD,
+            compact ? 11 : Font.getDefault().getSize()));
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.CENTER);
+        g.setLineWidth(border);
+        // Boards may be built off the FX thread, so the first draw waits for a scene.
+        dirty = rows == Long.SIZE ? -1L : (1L << rows) - 1;
+        canvas.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene != null) {
+                markAll();
+            }
+        });
+    }
+
+    @Override
+    public Node getNode() {
+        return canvas;
+    }
+
+    @Override
+    public int getRows() {
+        return letters.length;
+    }
+
+    @Override
+    public void setLetter(int row, int col, char letter) {
+        letters[row][col] = letter;
+        mark(row);
+    }
+
+    @Override
+    public void clearLetter(int row, int col) {
+        letters[row][col] = Tile.NO_LETTER;
+        mark(row);
+    }
+
+    @Override
+    public void reveal(int row, String result) {
+        for (int col = 0; col < Backend.WORD_LENGTH; col++) {
+            results[row][col] = result.charAt(col);
+        }
+        revealStart[row] = System.nanoTime();
+        revealing[row] = true;
+        mark(row);
+    }
+
+    @Override
+    public void setSolved(boolean solved) {
+        canvas.pseudoClassStateChanged(SOLVED, solved);
+    }
+
+    @Override
+    public void clear() {
+        for (int row = 0; row < letters.length; row++) {
+            for (int col = 0; col < Backend.WORD_LENGTH; col++) {
+                letters[row][col] = Tile.NO_LETTER;
+                results[row][col] = Tile.HIDDEN;
+            }
+            revealing[row] = false;
+        }
+        setSolved(false);
+        markAll();
+    }
+
+    /**
+     * Marks a row to be drawn on the next frame.
+     *
+     * @param row the row
+     */
+    private void mark(int row) {
+        dirty |= 1L << row;
+        if (!running && canvas.getScene() != null) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Marks every row to be drawn on the next frame.
+     */
+    private void markAll() {
+        for (int row = 0; row < letters.length; row++) {
+            mark(row);
+        }
+    }
+
+    /**
+     * Draws the dirty rows and advances the reveal animations, stopping the timer once there is
+     * nothing left to do.
+     *
+     * @param now the time of the frame, in nanoseconds
+     */
+    private void frame(long now) {
+        Scene scene = canvas.getScene();
+        if (scene == null) {
+            // Drawn again in full when the board is back in a scene.
+            running = false;
+            timer.stop();
+            return;
+        }
+        Paint[] colors = palette(scene, scene.getRoot().getPseudoClassStates().contains(DARK));
+        boolean animating = false;
+        for (int row = 0; row < letters.length; row++) {
+            if (revealing[row]) {
+                if (now - revealStart[row] >= REVEAL_NANOS) {
+                    revealing[row] = false;
+                } else {
+                    animating = true;
+                }
+                dirty |= 1L << row;
+            }
+        }
+        for (int row = 0; row < letters.length; row++) {
+            if ((dirty & (1L << row)) != 0) {
+                drawRow(row, colors, revealing[row] ? Math.max(0, now - revealStart[row]) : -1);
+            }
+        }
+        dirty = 0;
+        if (!animating) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    /**
+     * Draws one row.
+     *
+     * @param row the row
+     * @param colors the palette, see {@link #palette(Scene, boolean)}
+     * @param elapsed the time since the row's reveal started, or -1 if it is not animating
+     */
+    private void drawRow(int row, Paint[] colors, long elapsed) {
+        double y = row * (tileSize + gap);
+        g.clearRect(0, y, canvas.getWidth(), tileSize);
+        for (int col = 0; col < Backend.WORD_LENGTH; col++) {
+            char result = results[row][col];
+            double scale = 1;
+            if (elapsed >= 0) {
+                // The tile folds to a line, then unfolds showing its colour.
+                double phase = Math.min(1, Math.max(0,
+                    (elapsed - col * STAGGER_NANOS) / (double) FLIP_NANOS));
+                if (phase < 0.5) {
+                    result = Tile.HIDDEN;
+                }
+                scale = Math.abs(1 - 2 * phase);
+            }
+            int state = result == 'g' ? 3 : result == 'y' ? 6 : result == 'i' ? 9 : 0;
+            double x = col * (tileSize + gap);
+            double height = tileSize * scale;
+            double top = y + (tileSize - height) / 2;
+            g.setFill(colors[state]);
+            g.fillRect(x, top, tileSize, height);
+            g.setStroke(colors[state + 1]);
+            g.strokeRect(x + border / 2, top + border / 2, tileSize - border,
+                Math.max(0, height - border));
+            char letter = letters[row][col];
+            if (letter != Tile.NO_LETTER && scale > 0) {
+                g.save();
+                g.translate(x + tileSize / 2, y + tileSize / 2);
+                g.scale(1, scale);
+                g.setFill(colors[state + 2]);
+                g.fillText(String.valueOf(Character.toUpperCase(letter)), 0, 0);
+                g.restore();
+            }
+        }
+    }
+
+    /**
+     * Getter for the tile colours of a scene's stylesheets. The palettes are shared by every
+     * canvas board and read again only when the stylesheets change.
+     *
+     * @param scene the scene the boards are in
+     * @param dark whether the scene is in dark mode
+     * @return fill, border and text of an empty, green, yellow and grey tile, in that order
+     */
+    private static Paint[] palette(Scene scene, boolean dark) {
+        if (!scene.getStylesheets().equals(paletteSheets)) {
+            paletteSheets = new ArrayList<>(scene.getStylesheets());
+            PALETTES[0] = null;
+            PALETTES[1] = null;
+        }
+        int index = dark ? 1 : 0;
+        if (PALETTES[index] == null) {
+            PALETTES[index] = readPalette(paletteSheets, dark);
+        }
+        return PALETTES[index];
+    }
+
+    /**
+     * Styles one {@link Tile} per state in a scene that is never shown and reads its colours.
+     *
+     * @param stylesheets the stylesheets to style the tiles with
+     * @param dark whether the scene's root has the "dark" pseudo-class
+     * @return the palette, see {@link #palette(Scene, boolean)}
+     */
+    private static Paint[] readPalette(List<String> stylesheets, boolean dark) {
+        VBox root = new VBox();
+        Label[] views = new Label[STATES.length];
+        for (int i = 0; i < STATES.length; i++) {
+            Tile tile = new Tile();
+            tile.reveal(STATES[i]);
+            views[i] = tile.getView();
+            root.getChildren().add(views[i]);
+        }
+        Scene scene = new Scene(root);
+        scene.getStylesheets().setAll(stylesheets);
+        root.pseudoClassStateChanged(DARK, dark);
+        root.applyCss();
+        Paint[] palette = new Paint[3 * STATES.length];
+        for (int i = 0; i < STATES.length; i++) {
+            Label view = views[i];
+            palette[3 * i] = view.getBackground() == null ? Color.TRANSPARENT
+                : view.getBackground().getFills().get(0).getFill();
+            palette[3 * i + 1] = view.getBorder() == null ? Color.TRANSPARENT
+                : view.getBorder().getStrokes().get(0).getTopStroke();
+            palette[3 * i + 2] = view.getTextFill();
+        }
+        return palette;
+    }
+}
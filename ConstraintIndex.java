@@ -0,0 +1,162 @@
+import java.util.Arrays;
+
+/**
+ * Bitset index over the words of a {@link WordBank} for filtering candidates by feedback.
+ *
+ * The index keeps one bitset per (position, letter) and one per (letter, minimum count), so the
+ * words that fit a {@link FeedbackHistory} are found with a few word-wide AND and AND-NOT
+ * operations instead of re-scoring every word.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class ConstraintIndex {
+
+    private static final int LETTERS = 26;
+
+    private final int size;
+    private final int wordLength;
+    private final long[][] atPosition;
+    private final long[][] atLeast;
+    private final long[] all;
+
+    /**
+     * Builds the index over an array of packed words.
+     *
+     * @param words the packed words to index, see {@link PackedWords}
+     * @param wordLength the length of every word
+     */
+    ConstraintIndex(int[] words, int wordLength) {
+        this.size = words.length;
+        this.wordLength = wordLength;
+        int longs = (size + 63) >>> 6;
+        atPosition = new long[wordLength * LETTERS][longs];
+        atLeast = new long[LETTERS * wordLength][longs];
+        all = new long[longs];
+        int[] counts = new int[LETTERS];
+        for (int w = 0; w < size; w++) {
+            int word = words[w];
+            long bit = 1L << w;
+            all[w >>> 6] |= bit;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < wordLength; i++) {
+                int letter = PackedWords.letter(word, i);
+                atPosition[i * LETTERS + letter][w >>> 6] |= bit;
+                counts[letter]++;
+            }
+            for (int letter = 0; letter < LETTERS; letter++) {
+                for (int k = 1; k <= counts[letter]; k++) {
+                    atLeast[letter * wordLength + k - 1][w >>> 6] |= bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the set of words that fit every guess of a history.
+     *
+     * @param history the guesses made so far
+     * @return a bitset with bit i set if word i of the bank is still a candidate
+     */
+    public long[] filter(FeedbackHistory history) {
+        long[] result = all.clone();
+        int[] found = new int[LETTERS];
+        boolean[] capped = new boolean[LETTERS];
+        for (int g = 0; g < history.size(); g++) {
+            int packed = history.packedGuess(g);
+            String guess = packed < 0 ? history.guess(g) : null;
+            int code = history.code(g);
+            Arrays.fill(found, 0);
+            Arrays.fill(capped, false);
+            for (int i = 0; i < wordLength; i++, code /= 3) {
+                int letter = packed >= 0 ? PackedWords.letter(packed, i) : guess.charAt(i) - 'a';
+                if (letter < 0 || letter >= LETTERS) {
+                    // No packed word holds this character, so it only ever scores grey.
+                    continue;
+                }
+                long[] here = atPosition[i * LETTERS + letter];
+                if (code % 3 == 2) {
+                    and(result, here);
+                } else {
+                    andNot(result, here);
+                }
+                if (code % 3 == 0) {
+                    capped[letter] = true;
+                } else {
+                    found[letter]++;
+                }
+            }
+            for (int letter = 0; letter < LETTERS; letter++) {
+                if (found[letter] > 0) {
+                    and(result, atLeast[letter * wordLength + found[letter] - 1]);
+                }
+                if (capped[letter] && found[letter] < wordLength) {
+                    andNot(result, atLeast[letter * wordLength + found[letter]]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the words that fit every guess of a history.
+     *
+     * @param history the guesses made so far
+     * @return the number of remaining candidates
+     */
+    public int count(FeedbackHistory history) {
+        int count = 0;
+        for (long bits : filter(history)) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /**
+     * Lists the words that fit every guess of a history.
+     *
+     * @param history the guesses made so far
+     * @return the word bank indices of the remaining candidates, in ascending order
+     */
+    public int[] candidates(FeedbackHistory history) {
+        long[] set = filter(history);
+        int count = 0;
+        for (long bits : set) {
+            count += Long.bitCount(bits);
+        }
+        int[] candidates = new int[count];
+        int n = 0;
+        for (int i = 0; i < set.length; i++) {
+            long bits = set[i];
+            while (bits != 0) {
+                candidates[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Intersects a bitset with another in place.
+     *
+     * @param target the bitset to narrow
+     * @param other the bitset to intersect with
+     */
+    private static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    /**
+     * Removes the bits of another bitset from a bitset in place.
+     *
+     * @param target the bitset to narrow
+     * @param other the bitset to remove
+     */
+    private static void andNot(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= ~other[i];
+        }
+    }
+}
@@ -0,0 +1,158 @@
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares the CSS cost of the two ways of styling the game grid: inline style strings set on
+ * every tile, as the game used to do, and the style classes and pseudo-classes of jordle.css.
+ *
+ * For each way, a row reveal changes the five tiles of a row to their feedback colours, and a
+ * restart returns all 30 tiles to empty. Each change is followed by applyCss() on the grid, so
+ * the time measured is the CSS processing the next pulse would otherwise do. The grid sits in a
+ * scene that is never shown.
+ *
+ * Usage: java CssBenchmark [iterations]
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class CssBenchmark {
+
+    private static final int ROWS = 6;
+    private static final int COLS = 5;
+    private static final String[] RESULTS = {"iiyig", "gyiii", "ggiyi", "gggyi", "ggggi", "ggggg"};
+    private static final String EMPTY = "-fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center; -fx-background-color: white;";
+    private static final String GREEN = "-fx-background-color: green; -fx-text-fill: white; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;";
+    private static final String YELLOW = "-fx-background-color: yellow; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;";
+    private static final String GREY = "-fx-background-color: grey; -fx-text-fill: white; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;";
+    private static final PseudoClass[] STATES = {
+        PseudoClass.getPseudoClass("green"),
+        PseudoClass.getPseudoClass("yellow"),
+        PseudoClass.getPseudoClass("grey")
+    };
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Runs the comparison on the JavaFX application thread and prints the results.
+     *
+     * @param args the number of games to play per way, 2000 if omitted
+     * @throws InterruptedException if interrupted while waiting for the results
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                CssBenchmark bench = new CssBenchmark();
+                System.out.printf("%-22s %14s %14s %12s%n", "Benchmark", "us/reveal", "us/restart",
+                    "B/game");
+                // The first pass of each warms up the CSS engine and the JIT.
+                bench.run("inline styles", false, iterations / 4, false);
+                bench.run("inline styles", false, iterations, true);
+                bench.run("stylesheet", true, iterations / 4, false);
+                bench.run("stylesheet", true, iterations, true);
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    /**
+     * Plays a number of games on a fresh grid, revealing every row and then restarting.
+     *
+     * @param name the name of the benchmark
+     * @param stylesheet true to use jordle.css, false for inline styles
+     * @param games the number of games
+     * @param print whether to print the result
+     */
+    private void run(String name, boolean stylesheet, int games, boolean print) {
+        Label[] tiles = new Label[ROWS * COLS];
+        GridPane grid = new GridPane();
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = new Label("A");
+            if (stylesheet) {
+                tiles[i].getStyleClass().add("tile");
+            } else {
+                tiles[i].setStyle(EMPTY);
+            }
+            grid.add(tiles[i], i % COLS, i / COLS);
+        }
+        Scene scene = new Scene(grid);
+        if (stylesheet) {
+            scene.getStylesheets().add(new File("jordle.css").toURI().toString());
+        }
+        grid.applyCss();
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long revealNanos = 0;
+        long restartNanos = 0;
+        for (int game = 0; game < games; game++) {
+            for (int row = 0; row < ROWS; row++) {
+                long start = System.nanoTime();
+                reveal(tiles, row, RESULTS[row], stylesheet);
+                grid.applyCss();
+                revealNanos += System.nanoTime() - start;
+            }
+            long start = System.nanoTime();
+            restart(tiles, stylesheet);
+            grid.applyCss();
+            restartNanos += System.nanoTime() - start;
+        }
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        if (print) {
+            System.out.printf("%-22s %14.2f %14.2f %12d%n", name,
+                revealNanos / 1e3 / ((long) games * ROWS), restartNanos / 1e3 / games, bytes / games);
+        }
+    }
+
+    /**
+     * Colours one row the way Jordle.updateGridColors does.
+     *
+     * @param tiles the tiles, row by row
+     * @param row the row to reveal
+     * @param result the feedback of the row
+     * @param stylesheet true to switch pseudo-classes, false to set inline styles
+     */
+    private static void reveal(Label[] tiles, int row, String result, boolean stylesheet) {
+        for (int col = 0; col < COLS; col++) {
+            Label tile = tiles[row * COLS + col];
+            char c = result.charAt(col);
+            if (stylesheet) {
+                tile.pseudoClassStateChanged(STATES[0], c == 'g');
+                tile.pseudoClassStateChanged(STATES[1], c == 'y');
+                tile.pseudoClassStateChanged(STATES[2], c == 'i');
+            } else {
+                tile.setStyle(c == 'g' ? GREEN : c == 'y' ? YELLOW : GREY);
+            }
+        }
+    }
+
+    /**
+     * Returns every tile to empty the way Jordle.restartGame does.
+     *
+     * @param tiles the tiles
+     * @param stylesheet true to switch pseudo-classes, false to set inline styles
+     */
+    private static void restart(Label[] tiles, boolean stylesheet) {
+        for (Label tile : tiles) {
+            if (stylesheet) {
+                for (PseudoClass state : STATES) {
+                    tile.pseudoClassStateChanged(state, false);
+                }
+            } else {
+                tile.setStyle(EMPTY);
+            }
+        }
+    }
+}
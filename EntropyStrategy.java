@@ -0,0 +1,79 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Guesses the word of the bank with the highest expected information gain over the remaining
+ * candidates, the same ranking {@link HintEngine} uses, scored on the calling thread so that the
+ * simulator can spread whole games across cores instead.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class EntropyStrategy implements GuessStrategy {
+
+    private final WordBank bank;
+    private volatile int opener = -1;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param bank the word bank of allowed guesses and possible targets
+     */
+    public EntropyStrategy(WordBank bank) {
+        this.bank = bank;
+    }
+
+    @Override
+    public String name() {
+        return "entropy";
+    }
+
+    @Override
+    public int nextGuess(FeedbackHistory history, int[] candidates, Random rand) {
+        if (candidates.length <= 2) {
+            return bank.packed(candidates[0]);
+        }
+        if (history.size() == 0) {
+            // Every game starts from the same candidates, so the opener only needs scoring once.
+            if (opener < 0) {
+                opener = best(candidates);
+            }
+            return opener;
+        }
+        return best(candidates);
+    }
+
+    /**
+     * Scores every word of the bank against the candidates.
+     *
+     * @param candidates the word bank indices of the remaining candidates
+     * @return the packed word with the highest expected information gain, preferring candidates
+     *         on ties
+     */
+    private int best(int[] candidates) {
+        int[] words = bank.packedWords();
+        boolean[] isCandidate = new boolean[words.length];
+        int[] targets = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            isCandidate[candidates[i]] = true;
+            targets[i] = words[candidates[i]];
+        }
+        int[] buckets = new int[Backend.ALL_GREEN + 1];
+        byte[] codes = new byte[candidates.length];
+        int best = words[candidates[0]];
+        double bestBits = -1;
+        for (int g = 0; g < words.length; g++) {
+            Arrays.fill(buckets, 0);
+            BulkScorer.score(words[g], targets, codes);
+            for (byte code : codes) {
+                buckets[code & 0xFF]++;
+            }
+            double bits = HintEngine.bits(buckets, candidates.length);
+            if (bits > bestBits || (bits == bestBits && isCandidate[g])) {
+                bestBits = bits;
+                best = words[g];
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,145 @@
+import java.util.Arrays;
+
+/**
+ * The guesses made so far in a Jordle game together with their packed feedback codes.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class FeedbackHistory {
+
+    private String[] guesses;
+    private int[] packed;
+    private int[] codes;
+    private int size;
+
+    /**
+     * Creates an empty history with room for the six guesses of a standard game.
+     */
+    public FeedbackHistory() {
+        guesses = new String[6];
+        packed = new int[6];
+        codes = new int[6];
+    }
+
+    /**
+     * Records a guess and the feedback it received.
+     *
+     * @param guess the guessed word
+     * @param code the packed feedback code, see {@link Backend#checkCode(String)}
+     */
+    public void add(String guess, int code) {
+        grow();
+        guesses[size] = guess.toLowerCase();
+        packed[size] = PackedWords.pack(guess);
+        codes[size] = code;
+        size++;
+    }
+
+    /**
+     * Records a packed guess and the feedback it received without creating a String.
+     *
+     * @param guess the packed guessed word, see {@link PackedWords}
+     * @param code the packed feedback code, see {@link Backend#checkCode(String)}
+     */
+    public void add(int guess, int code) {
+        grow();
+        guesses[size] = null;
+        packed[size] = guess;
+        codes[size] = code;
+        size++;
+    }
+
+    /**
+     * Makes room for one more guess.
+     */
+    private void grow() {
+        if (size == guesses.length) {
+            guesses = Arrays.copyOf(guesses, size * 2);
+            packed = Arrays.copyOf(packed, size * 2);
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+    }
+
+    /**
+     * Removes every recorded guess.
+     */
+    public void clear() {
+        Arrays.fill(guesses, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Getter for the number of recorded guesses.
+     *
+     * @return the number of guesses
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for a recorded guess.
+     *
+     * @param index the index of the guess, oldest first
+     * @return the lowercase guessed word
+     */
+    public String guess(int index) {
+        if (guesses[index] == null) {
+            guesses[index] = PackedWords.unpack(packed[index]);
+        }
+        return guesses[index];
+    }
+
+    /**
+     * Getter for a recorded guess in packed form.
+     *
+     * @param index the index of the guess, oldest first
+     * @return the packed guessed word, or -1 if it is not made of five letters a to z
+     */
+    public int packedGuess(int index) {
+        return packed[index];
+    }
+
+    /**
+     * Getter for the feedback of a recorded guess.
+     *
+     * @param index the index of the guess, oldest first
+     * @return the packed feedback code
+     */
+    public int code(int index) {
+        return codes[index];
+    }
+
+    /**
+     * Checks whether a word could still be the target given every recorded guess.
+     *
+     * @param word the packed candidate word, see {@link PackedWords}
+     * @return true if every recorded guess would have received the same feedback against word
+     */
+    public boolean isConsistent(int word) {
+        for (int i = 0; i < size; i++) {
+            int code = packed[i] >= 0
+                ? Backend.feedbackCode(packed[i], word)
+                : Backend.feedbackCode(guesses[i], word);
+            if (code != codes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an independent copy of this history.
+     *
+     * @return a copy of the history
+     */
+    public FeedbackHistory copy() {
+        FeedbackHistory copy = new FeedbackHistory();
+        copy.guesses = Arrays.copyOf(guesses, guesses.length);
+        copy.packed = Arrays.copyOf(packed, packed.length);
+        copy.codes = Arrays.copyOf(codes, codes.length);
+        copy.size = size;
+        return copy;
+    }
+}
@@ -0,0 +1,180 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * Dense guess-by-target matrix of packed feedback codes for every pair of words in a
+ * {@link WordBank}.
+ *
+ * The matrix is built in parallel and saved to a cache file named after the fingerprint of the
+ * word bank, so later starts memory-map the file instead of rebuilding it.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class FeedbackMatrix {
+
+    /**
+     * The largest word bank whose matrix still fits in a single buffer.
+     */
+    public static final int MAX_WORDS = 46340;
+    private static final Path CACHE_DIR = Paths.get(".jordle-cache");
+    private static final int MAGIC = 0x4A464D31;
+    private static final int HEADER_BYTES = 8;
+
+    private final int size;
+    private final ByteBuffer codes;
+
+    /**
+     * Creates a matrix over a buffer of size * size feedback codes.
+     *
+     * @param size the number of words
+     * @param codes the feedback codes, row-major by guess index
+     */
+    private FeedbackMatrix(int size, ByteBuffer codes) {
+        this.size = size;
+        this.codes = codes;
+    }
+
+    /**
+     * Returns the matrix for a word bank, mapping it from the cache when it was built before and
+     * building and caching it otherwise.
+     *
+     * @param bank the word bank to score
+     * @return the feedback matrix of the bank
+     */
+    public static FeedbackMatrix of(WordBank bank) {
+        if (bank.size() > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many words for a feedback matrix: " + bank.size());
+        }
+        Path cache = CACHE_DIR.resolve("feedback-" + bank.fingerprint().substring(0, 16) + ".bin");
+        try {
+            FeedbackMatrix cached = map(cache, bank.size());
+            if (cached != null) {
+                return cached;
+            }
+        } catch (IOException e) {
+            System.err.println("Could not read feedback cache: " + e.getMessage());
+        }
+        if (!fits(bank.size())) {
+            throw new IllegalArgumentException("Not enough heap for a feedback matrix of "
+                + bank.size() + " words");
+        }
+        FeedbackMatrix built = build(bank);
+        try {
+            built.save(cache);
+        } catch (IOException e) {
+            System.err.println("Could not write feedback cache: " + e.getMessage());
+        }
+        return built;
+    }
+
+    /**
+     * Checks whether the matrix of a word bank can be built in this JVM. It must fit in a single
+     * buffer and take at most a quarter of the maximum heap, so large banks score directly
+     * instead of running out of memory.
+     *
+     * @param words the number of words in the bank
+     * @return true if the matrix can be built
+     */
+    public static boolean fits(int words) {
+        return words <= MAX_WORDS && (long) words * words <= Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    /**
+     * Builds the matrix for a word bank, scoring the rows in parallel across all cores.
+     *
+     * @param bank the word bank to score
+     * @return the feedback matrix of the bank
+     */
+    static FeedbackMatrix build(WordBank bank) {
+        int n = bank.size();
+        int[] words = bank.packedWords();
+        byte[] matrix = new byte[n * n];
+        IntStream.range(0, n).parallel()
+            .forEach(g -> BulkScorer.score(words[g], words, 0, n, matrix, g * n));
+        return new FeedbackMatrix(n, ByteBuffer.wrap(matrix));
+    }
+
+    /**
+     * Maps a cached matrix into memory.
+     *
+     * @param cache the cache file
+     * @param n the expected number of words
+     * @return the mapped matrix, or null if there is no valid cache file
+     * @throws IOException if the cache file could not be read
+     */
+    private static FeedbackMatrix map(Path cache, int n) throws IOException {
+        if (!Files.isRegularFile(cache)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.READ)) {
+            long expected = HEADER_BYTES + (long) n * n;
+            if (channel.size() != expected) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return null;
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != n) {
+                return null;
+            }
+            ByteBuffer codes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) n * n);
+            return new FeedbackMatrix(n, codes);
+        }
+    }
+
+    /**
+     * Writes the matrix to a cache file, replacing it atomically.
+     *
+     * @param cache the cache file
+     * @throws IOException if the cache file could not be written
+     */
+    private void save(Path cache) throws IOException {
+        Files.createDirectories(cache.getParent());
+        Path tmp = Files.createTempFile(cache.getParent(), "feedback", ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(size).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer body = codes.duplicate();
+            body.clear();
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        Files.move(tmp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Getter for the number of words on each side of the matrix.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Looks up the packed feedback code of a guess against a target.
+     *
+     * @param guess the word bank index of the guess
+     * @param target the word bank index of the target
+     * @return the packed feedback code, see {@link Backend#checkCode(String)}
+     */
+    public int code(int guess, int target) {
+        return codes.get(guess * size + target) & 0xFF;
+    }
+}
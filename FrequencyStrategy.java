@@ -0,0 +1,67 @@
+import java.util.Random;
+
+/**
+ * Guesses the remaining candidate whose letters are most common among the remaining candidates,
+ * counting each distinct letter once and favouring letters in their most common positions.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class FrequencyStrategy implements GuessStrategy {
+
+    private static final int LETTERS = 26;
+
+    private final WordBank bank;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param bank the word bank the candidates index into
+     */
+    public FrequencyStrategy(WordBank bank) {
+        this.bank = bank;
+    }
+
+    @Override
+    public String name() {
+        return "frequency";
+    }
+
+    @Override
+    public int nextGuess(FeedbackHistory history, int[] candidates, Random rand) {
+        int[] anywhere = new int[LETTERS];
+        int[] positional = new int[Backend.WORD_LENGTH * LETTERS];
+        for (int candidate : candidates) {
+            int word = bank.packed(candidate);
+            int seen = 0;
+            for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+                int letter = PackedWords.letter(word, i);
+                positional[i * LETTERS + letter]++;
+                if ((seen & (1 << letter)) == 0) {
+                    seen |= 1 << letter;
+                    anywhere[letter]++;
+                }
+            }
+        }
+        int best = bank.packed(candidates[0]);
+        long bestScore = -1;
+        for (int candidate : candidates) {
+            int word = bank.packed(candidate);
+            int seen = 0;
+            long score = 0;
+            for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+                int letter = PackedWords.letter(word, i);
+                score += positional[i * LETTERS + letter];
+                if ((seen & (1 << letter)) == 0) {
+                    seen |= 1 << letter;
+                    score += anywhere[letter];
+                }
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = word;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,513 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only history of finished games, with the statistics derived from it.
+ *
+ * Every game is appended to games.log as a fixed-size binary record holding the time, the packed
+ * target, the packed guesses and the result. Records are buffered in memory and written by a
+ * background thread in batches, so finishing a game never touches the disk on the calling thread.
+ *
+ * games.snapshot holds the statistics of the log up to some offset. Compaction rewrites it to
+ * cover the whole log once enough records have been appended since the last one, so opening the
+ * log reads the snapshot and replays only the records after it.
+ *
+ * Offsets count every record byte ever appended, across segments. games.log holds one segment:
+ * a header with the offset it starts at, then the records after that. Once a snapshot is on
+ * disk, compaction replaces games.log with an empty segment starting at the snapshot's offset,
+ * so the log never holds more than the records since the last snapshot. Both files are replaced
+ * by an atomic move of a synced copy, and a crash between the two moves leaves a snapshot that
+ * covers the whole old segment, which replays nothing.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class GameLog implements Closeable {
+
+    /** The size of one game record. */
+    public static final int RECORD_BYTES = 40;
+    /** How long a finished game may wait in memory before it is written, in milliseconds. */
+    private static final long FLUSH_DELAY_MILLIS = 500;
+    /** The number of records appended after the snapshot that triggers a compaction. */
+    private static final int COMPACT_RECORDS = 256;
+    private static final short RECORD_MARKER = 0x4A4C;
+    private static final int SNAPSHOT_MAGIC = 0x4A475331;
+    /** Starts the header of a segment, which is one record long so records stay aligned. */
+    private static final int SEGMENT_MAGIC = 0x4A474C31;
+    private static final int SNAPSHOT_BYTES = 4 + 8 + 4 * 4 + 4 * Backend.MAX_GUESSES;
+
+    private final Path dir;
+    private final Path logFile;
+    private final Path snapshotFile;
+    private final ScheduledExecutorService writer;
+    private FileChannel channel;
+    private ByteBuffer pending = ByteBuffer.allocate(RECORD_BYTES * 16);
+    private boolean flushScheduled;
+    /** The offset the segment in games.log starts at. */
+    private long segmentStart;
+    /** The size of the segment's header: a record, or none for a log written before segments. */
+    private int headerBytes;
+    private long logBytes;
+    private long snapshotBytes;
+    private int totalGames;
+    private int gamesWon;
+    private int currentStreak;
+    private int maxStreak;
+    private final int[] distribution = new int[Backend.MAX_GUESSES];
+
+    /**
+     * Creates a log over the given files. Use {@link #open(Path)}.
+     *
+     * @param dir the directory holding the log and its snapshot
+     */
+    private GameLog(Path dir) {
+        this.dir = dir;
+        this.logFile = dir.resolve("games.log");
+        this.snapshotFile = dir.resolve("games.snapshot");
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jordle-game-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the game log in a directory, creating it if needed. If the log cannot be read, its
+     * statistics start from zero and the error is printed; games are still counted in memory.
+     *
+     * @param dir the directory holding the log and its snapshot
+     * @return the game log
+     */
+    public static GameLog open(Path dir) {
+        GameLog log = new GameLog(dir);
+        try {
+            log.load(dir);
+        } catch (IOException e) {
+            System.err.println("Error in reading game history: " + e.getMessage());
+        }
+        return log;
+    }
+
+    /**
+     * The directory of the player's game history: the jordle.historyDir system property, or
+     * .jordle in the user's home directory.
+     *
+     * @return the history directory
+     */
+    public static Path defaultDirectory() {
+        String dir = System.getProperty("jordle.historyDir");
+        return dir != null ? Paths.get(dir) : Paths.get(System.getProperty("user.home"), ".jordle");
+    }
+
+    /**
+     * Restores the statistics from the snapshot and the records appended after it. If the
+     * snapshot does not fit the segment, the statistics start over from the segment's records.
+     *
+     * @param dir the directory holding the log and its snapshot
+     * @throws IOException if the files could not be read
+     */
+    private void load(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        readHeader();
+        long size = channel.size();
+        if ((size - headerBytes) % RECORD_BYTES != 0) {
+            // A record was cut off by a crash mid-write; drop it so appends stay aligned.
+            size -= (size - headerBytes) % RECORD_BYTES;
+            channel.truncate(size);
+        }
+        channel.position(size);
+        logBytes = segmentStart + size - headerBytes;
+        if (!readSnapshot() || snapshotBytes < segmentStart || snapshotBytes > logBytes) {
+            clearStatistics();
+            snapshotBytes = segmentStart;
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(RECORD_BYTES * 1024);
+        long offset = headerBytes + snapshotBytes - segmentStart;
+        while (offset < size) {
+            chunk.clear();
+            chunk.limit((int) Math.min(chunk.capacity(), size - offset));
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, offset + chunk.position()) < 0) {
+                    throw new IOException("Unexpected end of " + logFile);
+                }
+            }
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                replay(chunk);
+            }
+            offset += chunk.limit();
+        }
+        if ((logBytes - snapshotBytes) / RECORD_BYTES >= COMPACT_RECORDS) {
+            writer.execute(this::compact);
+        }
+    }
+
+    /**
+     * Reads the header of the segment in games.log, writing one if the file is new. A log
+     * without a header, as written before segments, starts at offset 0.
+     *
+     * @throws IOException if the header could not be read or written
+     */
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_BYTES);
+        if (channel.size() == 0) {
+            channel.write(header(0));
+            channel.force(false);
+        } else if (channel.size() < RECORD_BYTES) {
+            return;
+        }
+        channel.read(header, 0);
+        if (header.getInt(0) == SEGMENT_MAGIC) {
+            segmentStart = header.getLong(4);
+            headerBytes = RECORD_BYTES;
+        }
+    }
+
+    /**
+     * Builds the header of a segment.
+     *
+     * @param start the offset the segment starts at
+     * @return the header, ready to be written
+     */
+    private static ByteBuffer header(long start) {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_BYTES);
+        header.putInt(SEGMENT_MAGIC).putLong(start).rewind();
+        return header;
+    }
+
+    /**
+     * Reads the snapshot, if there is a valid one.
+     *
+     * @return true if the statistics were restored from the snapshot
+     * @throws IOException if the snapshot could not be read
+     */
+    private boolean readSnapshot() throws IOException {
+        if (!Files.isRegularFile(snapshotFile) || Files.size(snapshotFile) != SNAPSHOT_BYTES) {
+            return false;
+        }
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (snapshot.getInt() != SNAPSHOT_MAGIC) {
+            return false;
+        }
+        snapshotBytes = snapshot.getLong();
+        totalGames = snapshot.getInt();
+        gamesWon = snapshot.getInt();
+        currentStreak = snapshot.getInt();
+        maxStreak = snapshot.getInt();
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = snapshot.getInt();
+        }
+        return true;
+    }
+
+    /**
+     * Applies one record from the log to the statistics. Records that do not look like records
+     * are skipped.
+     *
+     * @param records the log, positioned at a record; moved past it
+     */
+    private void replay(ByteBuffer records) {
+        int start = records.position();
+        int count = records.get(start + 36);
+        boolean won = records.get(start + 37) != 0;
+        short marker = records.getShort(start + 38);
+        records.position(start + RECORD_BYTES);
+        if (marker == RECORD_MARKER && count > 0 && count <= Backend.MAX_GUESSES) {
+            count(count, won);
+        }
+    }
+
+    /**
+     * Records a finished game. The statistics are updated at once; the record is written by the
+     * background thread shortly after.
+     *
+     * @param target the packed target, see {@link PackedWords}
+     * @param history the guesses of the game
+     * @param won whether the target was guessed
+     */
+    public synchronized void record(int target, FeedbackHistory history, boolean won) {
+        int count = Math.min(history.size(), Backend.MAX_GUESSES);
+        count(count, won);
+        if (pending.remaining() < RECORD_BYTES) {
+            ByteBuffer larger = ByteBuffer.allocate(pending.capacity() * 2);
+            pending.flip();
+            pending = larger.put(pending);
+        }
+        pending.putLong(System.currentTimeMillis()).putInt(target);
+        for (int i = 0; i < Backend.MAX_GUESSES; i++) {
+            pending.putInt(i < count ? history.packedGuess(i) : -1);
+        }
+        pending.put((byte) count).put((byte) (won ? 1 : 0)).putShort(RECORD_MARKER);
+        if (!flushScheduled && !writer.isShutdown()) {
+            flushScheduled = true;
+            writer.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Adds one game to the statistics.
+     *
+     * @param guesses the number of guesses made
+     * @param won whether the target was guessed
+     */
+    private void count(int guesses, boolean won) {
+        totalGames++;
+        if (won) {
+            gamesWon++;
+            currentStreak++;
+            maxStreak = Math.max(currentStreak, maxStreak);
+            if (guesses > 0) {
+                distribution[guesses - 1]++;
+            }
+        } else {
+            currentStreak = 0;
+        }
+    }
+
+    /**
+     * Starts the statistics from totals kept elsewhere, such as the Preferences the game used
+     * before it kept a history. Only takes effect while no game has been recorded.
+     *
+     * @param total the number of games played
+     * @param won the number of games won
+     * @param current the current winning streak
+     * @param max the longest winning streak
+     */
+    public synchronized void seed(int total, int won, int current, int max) {
+        if (totalGames != 0 || logBytes != 0 || pending.position() != 0) {
+            return;
+        }
+        totalGames = total;
+        gamesWon = won;
+        currentStreak = current;
+        maxStreak = max;
+        if (!writer.isShutdown()) {
+            writer.execute(this::compact);
+        }
+    }
+
+    /**
+     * Writes the buffered records to the log. Runs on the background thread.
+     */
+    private void flush() {
+        ByteBuffer batch;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.position() == 0) {
+                return;
+            }
+            pending.flip();
+            batch = ByteBuffer.allocate(pending.remaining()).put(pending);
+            batch.flip();
+            pending.clear();
+        }
+        try {
+            if (channel == null) {
+                return;
+            }
+            int bytes = batch.remaining();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+            boolean compact;
+            synchronized (this) {
+                logBytes += bytes;
+                compact = (logBytes - snapshotBytes) / RECORD_BYTES >= COMPACT_RECORDS;
+            }
+            if (compact) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write game history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a snapshot of the statistics covering the whole log, replacing the old one
+     * atomically, then starts a new segment at the snapshot's offset. Skipped while records are
+     * still buffered, since the statistics then include games that are not in the log yet. Runs
+     * on the background thread, which is the only one writing the log.
+     */
+    private void compact() {
+        ByteBuffer snapshot = ByteBuffer.allocate(SNAPSHOT_BYTES);
+        long covered;
+        synchronized (this) {
+            if (pending.position() != 0 || channel == null) {
+                return;
+            }
+            covered = logBytes;
+            snapshot.putInt(SNAPSHOT_MAGIC).putLong(covered).putInt(totalGames).putInt(gamesWon)
+                .putInt(currentStreak).putInt(maxStreak);
+            for (int wins : distribution) {
+                snapshot.putInt(wins);
+            }
+        }
+        try {
+            snapshot.flip();
+            replace(snapshotFile, snapshot);
+            synchronized (this) {
+                snapshotBytes = covered;
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write game history snapshot: " + e.getMessage());
+            return;
+        }
+        if (covered > segmentStart) {
+            try {
+                startSegment(covered);
+            } catch (IOException e) {
+                System.err.println("Could not start a new game history segment: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replaces games.log with an empty segment. The old segment is closed first, since some
+     * systems cannot replace an open file, and games.log is opened again whether or not the
+     * replacement succeeded.
+     *
+     * @param start the offset the new segment starts at, the end of the old one
+     * @throws IOException if the new segment could not be written or opened
+     */
+    private void startSegment(long start) throws IOException {
+        channel.close();
+        boolean replaced = false;
+        try {
+            replace(logFile, header(start));
+            replaced = true;
+        } finally {
+            FileChannel reopened = FileChannel.open(logFile, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            reopened.position(reopened.size());
+            if (replaced) {
+                segmentStart = start;
+                headerBytes = RECORD_BYTES;
+            }
+            synchronized (this) {
+                channel = reopened;
+            }
+        }
+    }
+
+    /**
+     * Replaces a file atomically with new contents, which are on disk before the move.
+     *
+     * @param file the file to replace
+     * @param contents the new contents
+     * @throws IOException if the file could not be replaced; it is then left as it was
+     */
+    private void replace(Path file, ByteBuffer contents) throws IOException {
+        Path tmp = Files.createTempFile(dir, "games", ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (contents.hasRemaining()) {
+                    out.write(contents);
+                }
+                out.force(true);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Resets the statistics to zero.
+     */
+    private void clearStatistics() {
+        totalGames = 0;
+        gamesWon = 0;
+        currentStreak = 0;
+        maxStreak = 0;
+        Arrays.fill(distribution, 0);
+    }
+
+    /**
+     * Writes every buffered record, compacts the log and closes it.
+     */
+    @Override
+    public void close() {
+        writer.execute(() -> {
+            flush();
+            compact();
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("Gave up waiting for the game history to be written.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            try {
+                if (channel != null) {
+                    channel.close();
+                    channel = null;
+                }
+            } catch (IOException e) {
+                System.err.println("Could not close game history: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of games played.
+     *
+     * @return the number of games
+     */
+    public synchronized int getTotalGames() {
+        return totalGames;
+    }
+
+    /**
+     * Getter for the number of games won.
+     *
+     * @return the number of wins
+     */
+    public synchronized int getGamesWon() {
+        return gamesWon;
+    }
+
+    /**
+     * Getter for the current winning streak.
+     *
+     * @return the number of games won in a row, up to the last one
+     */
+    public synchronized int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    /**
+     * Getter for the longest winning streak.
+     *
+     * @return the most games won in a row
+     */
+    public synchronized int getMaxStreak() {
+        return maxStreak;
+    }
+
+    /**
+     * Getter for the guess distribution of the games won.
+     *
+     * @return element i is the number of games won with i + 1 guesses
+     */
+    public synchronized int[] getDistribution() {
+        return distribution.clone();
+    }
+}
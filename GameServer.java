@@ -0,0 +1,395 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP server hosting many concurrent Jordle games over the JDK's built-in HttpServer.
+ *
+ * Every game is a {@link GameSession} over the shared {@link WordBank}. Requests run on a
+ * virtual thread each when the JDK provides them, and on a cached thread pool otherwise.
+ * Sessions idle for longer than the time-to-live are dropped, and new games are refused once
+ * the session limit is reached, so memory stays bounded. A new game reserves its slot in an
+ * atomic count before it is stored, so concurrent requests cannot overshoot the limit.
+ *
+ * Endpoints, all answering JSON:
+ * POST /games starts a game, in hard mode with the "hard=true" query parameter;
+ * POST /games/{id}/guesses with the word as the body or as the "word" query parameter scores a
+ * guess; GET /games/{id} shows a game; DELETE /games/{id} ends it.
+ *
+ * Usage: java GameServer [port]
+ *
+ * Started from the command line, the server turns off Nagle's algorithm, a JVM-wide setting
+ * of the JDK's HttpServer; a program embedding the server can pass
+ * -Dsun.net.httpserver.nodelay=true.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class GameServer {
+
+    private static final String PREFIX = "/games";
+    private static final int MAX_BODY = 64;
+    private static final int BACKLOG = 4096;
+
+    private final WordBank bank;
+    private final int maxSessions;
+    private final long ttlNanos;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService requests;
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * Creates a server.
+     *
+     * @param bank the word bank every session draws its target from
+     * @param maxSessions the most sessions kept at once
+     * @param ttlMillis how long an idle session is kept, in milliseconds
+     */
+    public GameServer(WordBank bank, int maxSessions, long ttlMillis) {
+        this.bank = bank;
+        this.maxSessions = maxSessions;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Starts a server on the given port, or 8080 if omitted.
+     *
+     * @param args the port to listen on
+     * @throws IOException if the server could not be started
+     */
+    public static void main(String[] args) throws IOException {
+        // Responses are tiny, so Nagle's algorithm only adds a delayed-ACK stall per request.
+        // The JDK reads this once, when the first server is created; -D on the command line wins.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        GameServer server = new GameServer(WordBank.shared(), 100_000, TimeUnit.MINUTES.toMillis(30));
+        InetSocketAddress address = server.start(new InetSocketAddress(port));
+        System.out.println("Jordle server listening on " + address);
+    }
+
+    /**
+     * Starts listening.
+     *
+     * @param address the address to bind, port 0 picks a free port
+     * @return the address actually bound
+     * @throws IOException if the server could not be bound
+     */
+    public synchronized InetSocketAddress start(InetSocketAddress address) throws IOException {
+        // A burst of new players opens many connections at once; the default backlog of 50
+        // makes the kernel drop the rest and the clients retry a second later.
+        server = HttpServer.create(address, BACKLOG);
+        requests = requestExecutor();
+        server.setExecutor(requests);
+        server.createContext(PREFIX, this::handle);
+        server.start();
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jordle-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, TimeUnit.NANOSECONDS.toMillis(ttlNanos) / 4);
+        sweeper.scheduleAtFixedRate(this::expireIdle, period, period, TimeUnit.MILLISECONDS);
+        return server.getAddress();
+    }
+
+    /**
+     * Stops the server and drops every session.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            requests.shutdown();
+            sweeper.shutdown();
+            sessions.clear();
+            sessionCount.set(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Getter for the number of live sessions.
+     *
+     * @return the number of sessions
+     */
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the running JDK has one, falling back to
+     * a cached thread pool on older JDKs.
+     *
+     * @return the executor for requests
+     */
+    private static ExecutorService requestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Drops the sessions that have not been used within the time-to-live.
+     */
+    private void expireIdle() {
+        long now = System.nanoTime();
+        for (Map.Entry<Long, GameSession> entry : sessions.entrySet()) {
+            if (now - entry.getValue().getLastAccess() > ttlNanos
+                && sessions.remove(entry.getKey(), entry.getValue())) {
+                sessionCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Routes one request. The context matches any path starting with the prefix, so paths such as
+     * "/gamesfoo" are answered 404 here.
+     *
+     * @param exchange the request and response
+     * @throws IOException if the response could not be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = segments(exchange.getRequestURI().getPath());
+            String method = exchange.getRequestMethod();
+            if (path == null) {
+                send(exchange, 404, error("Unknown endpoint."));
+                return;
+            }
+            if (path.length <= 1) {
+                if ("POST".equals(method)) {
+                    newGame(exchange);
+                } else {
+                    send(exchange, 405, error("Use POST to start a game."));
+                }
+                return;
+            }
+            GameSession session = lookup(path[1]);
+            if (session == null) {
+                send(exchange, 404, error("No such game."));
+            } else if (path.length == 2 && "GET".equals(method)) {
+                send(exchange, 200, state(path[1], session));
+            } else if (path.length == 2 && "DELETE".equals(method)) {
+                if (sessions.remove(Long.parseUnsignedLong(path[1], 16)) != null) {
+                    sessionCount.decrementAndGet();
+                }
+                send(exchange, 204, null);
+            } else if (path.length == 3 && "guesses".equals(path[2]) && "POST".equals(method)) {
+                guess(exchange, path[1], session);
+            } else {
+                send(exchange, 404, error("Unknown endpoint."));
+            }
+        } catch (RuntimeException e) {
+            send(exchange, 500, error("Internal error."));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Splits a request path into its segments after the prefix.
+     *
+     * @param path the request path
+     * @return {""} for the prefix itself, {"", id} or {"", id, action} below it, or null if the
+     *         path only starts with the prefix's letters, as "/gamesfoo" does
+     */
+    private static String[] segments(String path) {
+        if (path.equals(PREFIX) || path.equals(PREFIX + "/")) {
+            return new String[] {""};
+        }
+        if (!path.startsWith(PREFIX + "/")) {
+            return null;
+        }
+        // The limit of -1 keeps empty segments, so "/games/{id}/" does not pass as "/games/{id}".
+        return path.substring(PREFIX.length()).split("/", -1);
+    }
+
+    /**
+     * Starts a game with a random target, in hard mode if the request asks for it.
+     *
+     * @param exchange the request and response
+     * @throws IOException if the response could not be written
+     */
+    private void newGame(HttpExchange exchange) throws IOException {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        boolean hard = Boolean.parseBoolean(queryParameter(exchange, "hard"));
+        GameSession session = new GameSession(bank, rand.nextInt(bank.size()), hard);
+        if (sessionCount.incrementAndGet() > maxSessions) {
+            sessionCount.decrementAndGet();
+            send(exchange, 503, error("Too many games in progress."));
+            return;
+        }
+        long id;
+        do {
+            id = rand.nextLong();
+        } while (sessions.putIfAbsent(id, session) != null);
+        send(exchange, 201, state(Long.toHexString(id), session));
+    }
+
+    /**
+     * Scores a guess for a game.
+     *
+     * @param exchange the request and response
+     * @param id the id of the game
+     * @param session the game
+     * @throws IOException if the request could not be read or the response written
+     */
+    private void guess(HttpExchange exchange, String id, GameSession session) throws IOException {
+        String word = queryParameter(exchange, "word");
+        if (word == null) {
+            word = readBody(exchange);
+        }
+        try {
+            int code = session.guess(word);
+            send(exchange, 200, "{\"result\":\"" + Backend.decode(code) + "\",\"code\":" + code
+                + "," + state(id, session).substring(1));
+        } catch (InvalidGuessException e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            send(exchange, 409, error(e.getMessage()));
+        }
+    }
+
+    /**
+     * Finds a session by its hexadecimal id.
+     *
+     * @param id the id from the path
+     * @return the session, or null if there is none
+     */
+    private GameSession lookup(String id) {
+        try {
+            return sessions.get(Long.parseUnsignedLong(id, 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Describes a game as JSON. The target is only included once the game is over.
+     *
+     * @param id the id of the game
+     * @param session the game
+     * @return the JSON object
+     */
+    private static String state(String id, GameSession session) {
+        StringBuilder json = new StringBuilder();
+        synchronized (session) {
+            json.append("{\"id\":\"").append(id).append("\",\"guesses\":[");
+            for (int i = 0; i < session.getGuessCount(); i++) {
+                json.append(i == 0 ? "" : ",").append("{\"word\":\"").append(session.getGuess(i))
+                    .append("\",\"result\":\"").append(Backend.decode(session.getCode(i)))
+                    .append("\"}");
+            }
+            json.append("],\"hard\":").append(session.isHard())
+                .append(",\"solved\":").append(session.isSolved())
+                .append(",\"over\":").append(session.isOver());
+            if (session.isOver()) {
+                json.append(",\"target\":\"").append(session.getTarget()).append('"');
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Formats an error message as JSON. Messages may quote what the client sent, so every
+     * character JSON does not allow in a string is escaped.
+     *
+     * @param message the message
+     * @return the JSON object
+     */
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder(message.length() + 16).append("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append("\"}").toString();
+    }
+
+    /**
+     * Reads a query parameter of the request.
+     *
+     * @param exchange the request
+     * @param name the name of the parameter
+     * @return the decoded value, or null if it is missing
+     */
+    private static String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a short request body as text. Guesses are five letters, so anything longer than a
+     * few dozen bytes is cut off rather than buffered.
+     *
+     * @param exchange the request
+     * @return the trimmed body
+     * @throws IOException if the body could not be read
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY);
+            return new String(body, StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange the response
+     * @param status the HTTP status
+     * @param json the body, or null for none
+     * @throws IOException if the response could not be written
+     */
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        // The server drops the connection if a response finishes before the request body is
+        // read to the end, which a response without a body does as soon as its headers are sent.
+        exchange.getRequestBody().close();
+        if (json == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
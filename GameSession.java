@@ -0,0 +1,153 @@
+/**
+ * One player's Jordle game on a shared, immutable {@link WordBank}.
+ *
+ * A session holds only the index of its target and its packed guesses and feedback codes, so its
+ * size is fixed no matter how large the word bank is. Unlike {@link Backend}, sessions do not
+ * own a random source or a word list and can be kept by the thousands. Hard mode sessions add
+ * a {@link HardMode}, which is also of fixed size.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class GameSession {
+
+    private final WordBank bank;
+    private final int target;
+    private final int[] guesses = new int[Backend.MAX_GUESSES];
+    private final byte[] codes = new byte[Backend.MAX_GUESSES];
+    private final HardMode hardMode;
+    private int count;
+    private boolean solved;
+    private volatile long lastAccess;
+
+    /**
+     * Creates a session.
+     *
+     * @param bank the word bank the target index refers to
+     * @param target the word bank index of the target
+     */
+    public GameSession(WordBank bank, int target) {
+        this(bank, target, false);
+    }
+
+    /**
+     * Creates a session that may be played in hard mode.
+     *
+     * @param bank the word bank the target index refers to
+     * @param target the word bank index of the target
+     * @param hard whether every guess must use the hints revealed so far
+     */
+    public GameSession(WordBank bank, int target, boolean hard) {
+        this.bank = bank;
+        this.target = target;
+        this.hardMode = hard ? new HardMode() : null;
+        this.lastAccess = System.nanoTime();
+    }
+
+    /**
+     * Scores a guess and records it.
+     *
+     * @param word the word to guess, case-insensitive
+     * @return the packed feedback code, see {@link Backend#checkCode(String)}
+     * @throws InvalidGuessException if the word is not a valid Jordle guess, or
+     *                               {@link HardModeException} if it breaks hard mode
+     * @throws IllegalStateException if the game is already over
+     */
+    public synchronized int guess(String word) throws InvalidGuessException {
+        lastAccess = System.nanoTime();
+        if (isOver()) {
+            throw new IllegalStateException("The game is over.");
+        }
+        int packed = PackedWords.pack(word);
+        PackedWordSet allowed = bank.allowedGuesses();
+        if (packed < 0 || !allowed.contains(packed)) {
+            throw new InvalidGuessException(word);
+        }
+        if (hardMode != null) {
+            hardMode.check(packed);
+        }
+        int code = Backend.feedbackCode(packed, bank.packed(target));
+        if (hardMode != null) {
+            hardMode.add(packed, code);
+        }
+        guesses[count] = packed;
+        codes[count] = (byte) code;
+        count++;
+        solved = code == Backend.ALL_GREEN;
+        return code;
+    }
+
+    /**
+     * Getter for the number of guesses made.
+     *
+     * @return the number of guesses
+     */
+    public synchronized int getGuessCount() {
+        return count;
+    }
+
+    /**
+     * Getter for a guess made in this session.
+     *
+     * @param index the index of the guess, oldest first
+     * @return the guessed word
+     */
+    public synchronized String getGuess(int index) {
+        return PackedWords.unpack(guesses[index]);
+    }
+
+    /**
+     * Getter for the feedback of a guess made in this session.
+     *
+     * @param index the index of the guess, oldest first
+     * @return the packed feedback code
+     */
+    public synchronized int getCode(int index) {
+        return codes[index] & 0xFF;
+    }
+
+    /**
+     * Getter for whether the session is played in hard mode.
+     *
+     * @return true if every guess must use the hints revealed so far
+     */
+    public boolean isHard() {
+        return hardMode != null;
+    }
+
+    /**
+     * Getter for whether the target was guessed.
+     *
+     * @return true if the game was won
+     */
+    public synchronized boolean isSolved() {
+        return solved;
+    }
+
+    /**
+     * Getter for whether the game is over, won or lost.
+     *
+     * @return true if no more guesses are accepted
+     */
+    public synchronized boolean isOver() {
+        return solved || count == guesses.length;
+    }
+
+    /**
+     * Getter for the target word. Callers should only reveal it once the game is over.
+     *
+     * @return the target word
+     */
+    public String getTarget() {
+        return bank.word(target);
+    }
+
+    /**
+     * Getter for when the session was last used.
+     *
+     * @return the System.nanoTime() of the last access
+     */
+    public long getLastAccess() {
+        return lastAccess;
+    }
+}
@@ -0,0 +1,31 @@
+import java.util.Random;
+
+/**
+ * A way of choosing the next guess in a headless Jordle game, used by {@link Simulator}.
+ *
+ * Implementations are called from a single simulator thread at a time but may be shared across
+ * threads, so any scratch space must be per call or thread-confined.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public interface GuessStrategy {
+
+    /**
+     * Getter for the name of the strategy used on the command line and in reports.
+     *
+     * @return the name of the strategy
+     */
+    String name();
+
+    /**
+     * Chooses the next guess.
+     *
+     * @param history the guesses made so far in the game
+     * @param candidates the word bank indices of the words that still fit the history, never
+     *                   empty
+     * @param rand the random source of the calling thread
+     * @return the packed word to guess, see {@link PackedWords}
+     */
+    int nextGuess(FeedbackHistory history, int[] candidates, Random rand);
+}
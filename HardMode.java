@@ -0,0 +1,175 @@
+import java.util.Arrays;
+
+/**
+ * The hard mode rule of Jordle: every guess must use the hints revealed so far. Letters found
+ * green stay in place, letters found yellow or green are used at least as often as they were
+ * found, and letters found absent are not used again.
+ *
+ * The rules are kept as they are learned, as a fixed letter per position, a minimum count per
+ * letter and a bitmask of excluded letters, so checking a guess is O(word length) however many
+ * guesses came before. Instances are not thread-safe; every game keeps its own.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class HardMode {
+
+    private static final int LETTERS = 26;
+    private static final byte NONE = -1;
+    private static final int FIXED = 1;
+    private static final int MISSING = 2;
+    private static final int EXCLUDED = 3;
+
+    private final byte[] fixed = new byte[Backend.WORD_LENGTH];
+    private final byte[] minCounts = new byte[LETTERS];
+    private final byte[] required = new byte[Backend.WORD_LENGTH];
+    private final byte[] counts = new byte[LETTERS];
+    private int requiredCount;
+    private int excluded;
+
+    /**
+     * Creates the rules of a game with no hints yet.
+     */
+    public HardMode() {
+        clear();
+    }
+
+    /**
+     * Forgets every hint for a new game.
+     */
+    public void clear() {
+        Arrays.fill(fixed, NONE);
+        for (int r = 0; r < requiredCount; r++) {
+            minCounts[required[r]] = 0;
+        }
+        requiredCount = 0;
+        excluded = 0;
+    }
+
+    /**
+     * Learns the hints of a scored guess.
+     *
+     * @param guess the packed guess, see {@link PackedWords}
+     * @param code its packed feedback code, see {@link Backend#checkCode(String)}
+     */
+    public void add(int guess, int code) {
+        // First pass: fix the greens and count the letters found in the word.
+        for (int i = 0, c = code; i < Backend.WORD_LENGTH; i++, c /= 3) {
+            int letter = PackedWords.letter(guess, i);
+            if (c % 3 == 2) {
+                fixed[i] = (byte) letter;
+            }
+            if (c % 3 != 0) {
+                counts[letter]++;
+            }
+        }
+        // Second pass: raise minimum counts, exclude letters found nowhere, reset the counts.
+        for (int i = 0, c = code; i < Backend.WORD_LENGTH; i++, c /= 3) {
+            int letter = PackedWords.letter(guess, i);
+            int found = counts[letter];
+            if (found > minCounts[letter]) {
+                if (minCounts[letter] == 0) {
+                    required[requiredCount++] = (byte) letter;
+                }
+                minCounts[letter] = (byte) found;
+            } else if (found == 0 && c % 3 == 0) {
+                excluded |= 1 << letter;
+            }
+        }
+        for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+            counts[PackedWords.letter(guess, i)] = 0;
+        }
+    }
+
+    /**
+     * Checks whether a guess uses every hint, without building an exception.
+     *
+     * @param guess the packed guess
+     * @return true if hard mode allows the guess
+     */
+    public boolean allows(int guess) {
+        return violation(guess) == 0;
+    }
+
+    /**
+     * Checks that a guess uses every hint.
+     *
+     * @param guess the packed guess
+     * @throws HardModeException if the guess ignores a hint
+     */
+    public void check(int guess) throws HardModeException {
+        int violation = violation(guess);
+        if (violation != 0) {
+            char letter = (char) ('A' + (violation >>> 8 & 0xFF));
+            int position = violation >>> 16;
+            String reason;
+            if ((violation & 0xFF) == FIXED) {
+                reason = "the " + ordinal(position + 1) + " letter must be " + letter;
+            } else if ((violation & 0xFF) == MISSING) {
+                int min = minCounts[letter - 'A'];
+                reason = "it must contain " + letter + (min > 1 ? " " + min + " times" : "");
+            } else {
+                reason = letter + " is not in the word";
+            }
+            throw new HardModeException(PackedWords.unpack(guess), reason);
+        }
+    }
+
+    /**
+     * Checks that a guess is a word made of five letters and uses every hint.
+     *
+     * @param word the guess, case-insensitive
+     * @throws InvalidGuessException if the word is not five letters a to z, or
+     *                               {@link HardModeException} if it ignores a hint
+     */
+    public void check(String word) throws InvalidGuessException {
+        int packed = word == null ? -1 : PackedWords.pack(word);
+        if (packed < 0) {
+            throw new InvalidGuessException(word);
+        }
+        check(packed);
+    }
+
+    /**
+     * Finds the first hint a guess ignores.
+     *
+     * @param guess the packed guess
+     * @return 0 if there is none, else the kind of hint in the low byte, the letter in the next
+     *         byte and the position, for fixed letters, above that
+     */
+    private int violation(int guess) {
+        int violation = 0;
+        for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+            int letter = PackedWords.letter(guess, i);
+            counts[letter]++;
+            if (violation != 0) {
+                continue;
+            }
+            if (fixed[i] != NONE && fixed[i] != letter) {
+                violation = i << 16 | fixed[i] << 8 | FIXED;
+            } else if ((excluded >>> letter & 1) != 0) {
+                violation = letter << 8 | EXCLUDED;
+            }
+        }
+        for (int r = 0; r < requiredCount && violation == 0; r++) {
+            int letter = required[r];
+            if (counts[letter] < minCounts[letter]) {
+                violation = letter << 8 | MISSING;
+            }
+        }
+        for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+            counts[PackedWords.letter(guess, i)] = 0;
+        }
+        return violation;
+    }
+
+    /**
+     * Formats a position as an English ordinal.
+     *
+     * @param n the position, from 1 to 5
+     * @return "1st", "2nd", "3rd", "4th" or "5th"
+     */
+    private static String ordinal(int n) {
+        return n + (n == 1 ? "st" : n == 2 ? "nd" : n == 3 ? "rd" : "th");
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Thrown when a Jordle guess is a word but breaks the hard mode rule of using every hint
+ * revealed so far.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public class HardModeException extends InvalidGuessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String guess;
+    private final String reason;
+
+    /**
+     * 2-arg constructor.
+     *
+     * @param guess the word guessed in the Jordle game
+     * @param reason the hint the guess ignores, such as "the 2nd letter must be R"
+     */
+    public HardModeException(String guess, String reason) {
+        super(guess);
+        this.guess = guess;
+        this.reason = reason;
+    }
+
+    /**
+     * Getter for the hint the guess ignores.
+     *
+     * @return the reason the guess was rejected
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "\"" + guess + "\" breaks hard mode: " + reason + ".";
+    }
+}
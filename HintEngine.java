@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Suggests the next Jordle guess by ranking every word of a {@link WordBank} by the expected
+ * information it reveals about the remaining candidates.
+ *
+ * Only the bank's own words are ranked, not the rest of {@link WordBank#allowedGuesses()}: the
+ * feedback matrix covers the bank alone, and a word that is never a target can still be the
+ * best split, so a hint may be a little weaker than the best allowed guess.
+ *
+ * Scoring is split across a ForkJoinPool and stops once a time budget runs out, in which case
+ * the best guess scored so far is returned. The budget starts when a hint is asked for, so it
+ * also covers filtering the candidates, which builds the bank's constraint index on first use.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class HintEngine {
+
+    private static final int CODES = Backend.ALL_GREEN + 1;
+    private static final int SPLIT_THRESHOLD = 64;
+
+    private final WordBank bank;
+    private final FeedbackMatrix matrix;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a hint engine that scores guesses directly on the common pool.
+     *
+     * @param bank the word bank of allowed guesses and possible targets
+     */
+    public HintEngine(WordBank bank) {
+        this(bank, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a hint engine.
+     *
+     * @param bank the word bank of allowed guesses and possible targets
+     * @param matrix the precomputed feedback matrix of the bank, or null to score directly
+     * @param pool the pool to split scoring across
+     */
+    public HintEngine(WordBank bank, FeedbackMatrix matrix, ForkJoinPool pool) {
+        this.bank = bank;
+        this.matrix = matrix;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the guess with the highest expected information gain.
+     *
+     * @param history the guesses made so far in the current game
+     * @param budgetMillis how long finding the hint may take, in milliseconds
+     * @return the best hint found within the budget, or null if no word fits the history
+     */
+    public Hint suggest(FeedbackHistory history, long budgetMillis) {
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        int[] candidates = bank.constraints().candidates(history);
+        if (candidates.length == 0) {
+            return null;
+        }
+        if (candidates.length <= 2) {
+            return new Hint(bank.word(candidates[0]), 0, candidates.length, true);
+        }
+        boolean[] isCandidate = new boolean[bank.size()];
+        int[] targets = new int[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            isCandidate[candidates[i]] = true;
+            targets[i] = bank.packed(candidates[i]);
+        }
+        ScoreTask task = new ScoreTask(candidates, targets, isCandidate, deadline, 0, bank.size());
+        Best best = pool.invoke(task);
+        if (best.index < 0) {
+            return new Hint(bank.word(candidates[0]), 0, candidates.length, false);
+        }
+        return new Hint(bank.word(best.index), best.bits, candidates.length, best.complete);
+    }
+
+    /**
+     * Scores one guess against the remaining candidates.
+     *
+     * @param guess the word bank index of the guess
+     * @param candidates the word bank indices of the remaining candidates
+     * @param targets the packed remaining candidates
+     * @param buckets scratch space for one count per feedback code
+     * @param codes scratch space for one feedback code per candidate
+     * @return the expected information gain in bits
+     */
+    private double entropy(int guess, int[] candidates, int[] targets, int[] buckets, byte[] codes) {
+        Arrays.fill(buckets, 0);
+        if (matrix != null) {
+            for (int candidate : candidates) {
+                buckets[matrix.code(guess, candidate)]++;
+            }
+        } else {
+            BulkScorer.score(bank.packed(guess), targets, codes);
+            for (byte code : codes) {
+                buckets[code & 0xFF]++;
+            }
+        }
+        return bits(buckets, candidates.length);
+    }
+
+    /**
+     * Computes the entropy of a split of the candidates into feedback buckets.
+     *
+     * @param buckets the number of candidates per feedback code
+     * @param total the total number of candidates
+     * @return the expected information gain in bits
+     */
+    static double bits(int[] buckets, int total) {
+        double n = total;
+        double sum = 0;
+        for (int count : buckets) {
+            if (count > 1) {
+                sum += count * Math.log(count);
+            }
+        }
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    /**
+     * A suggested guess.
+     */
+    public static final class Hint {
+
+        private final String word;
+        private final double bits;
+        private final int candidates;
+        private final boolean complete;
+
+        /**
+         * Creates a hint.
+         *
+         * @param word the suggested guess
+         * @param bits the expected information gain of the guess
+         * @param candidates the number of words that still fit the history
+         * @param complete whether every guess was scored within the budget
+         */
+        private Hint(String word, double bits, int candidates, boolean complete) {
+            this.word = word;
+            this.bits = bits;
+            this.candidates = candidates;
+            this.complete = complete;
+        }
+
+        /**
+         * Getter for the suggested guess.
+         *
+         * @return the suggested guess
+         */
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * Getter for the expected information gain of the suggested guess.
+         *
+         * @return the expected information gain in bits
+         */
+        public double getBits() {
+            return bits;
+        }
+
+        /**
+         * Getter for the number of words that still fit the history.
+         *
+         * @return the number of remaining candidates
+         */
+        public int getCandidates() {
+            return candidates;
+        }
+
+        /**
+         * Getter for whether every guess was scored before the budget ran out.
+         *
+         * @return true if the search finished within the budget
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+
+    /**
+     * The best guess found by a scoring task.
+     */
+    private static final class Best {
+
+        private int index = -1;
+        private double bits = -1;
+        private boolean candidate;
+        private boolean complete = true;
+
+        /**
+         * Records a scored guess if it beats the current best. Ties go to guesses that could be
+         * the target themselves.
+         *
+         * @param guess the word bank index of the guess
+         * @param score the expected information gain of the guess
+         * @param isCandidate whether the guess could be the target
+         */
+        private void offer(int guess, double score, boolean isCandidate) {
+            if (score > bits || (score == bits && isCandidate && !candidate)) {
+                index = guess;
+                bits = score;
+                candidate = isCandidate;
+            }
+        }
+
+        /**
+         * Merges the result of another task into this one.
+         *
+         * @param other the other task's best guess
+         * @return this best guess
+         */
+        private Best merge(Best other) {
+            if (other.index >= 0) {
+                offer(other.index, other.bits, other.candidate);
+            }
+            complete &= other.complete;
+            return this;
+        }
+    }
+
+    /**
+     * Scores a range of guesses, splitting it in half until it is small enough.
+     */
+    private final class ScoreTask extends RecursiveTask<Best> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] candidates;
+        private final int[] targets;
+        private final boolean[] isCandidate;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task scoring the guesses with word bank indices in [from, to).
+         *
+         * @param candidates the remaining candidates
+         * @param targets the packed remaining candidates
+         * @param isCandidate whether each word of the bank is a remaining candidate
+         * @param deadline the System.nanoTime() value at which scoring stops
+         * @param from the first guess to score
+         * @param to one past the last guess to score
+         */
+        private ScoreTask(int[] candidates, int[] targets, boolean[] isCandidate, long deadline,
+                          int from, int to) {
+            this.candidates = candidates;
+            this.targets = targets;
+            this.isCandidate = isCandidate;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Best compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                ScoreTask left = new ScoreTask(candidates, targets, isCandidate, deadline, from, mid);
+                left.fork();
+                Best right =
+                    new ScoreTask(candidates, targets, isCandidate, deadline, mid, to).compute();
+                return right.merge(left.join());
+            }
+            Best best = new Best();
+            int[] buckets = new int[CODES];
+            byte[] codes = matrix == null ? new byte[targets.length] : null;
+            for (int guess = from; guess < to; guess++) {
+                if (System.nanoTime() - deadline >= 0) {
+                    best.complete = false;
+                    break;
+                }
+                best.offer(guess, entropy(guess, candidates, targets, buckets, codes), isCandidate[guess]);
+            }
+            return best;
+        }
+    }
+}
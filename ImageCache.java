@@ -0,0 +1,119 @@
+import javafx.scene.image.Image;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decoded images shared across scenes and popups.
+ *
+ * Each image is decoded once, in the background, scaled to the size it is shown at, so a 4000
+ * pixel photo shown in a 200 pixel popup costs 200 pixels of memory. Images are kept until the
+ * estimated size of the cache passes its budget, at which point the least recently used ones are
+ * dropped; views still showing a dropped image keep it alive.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class ImageCache {
+
+    /** The budget used when the jordle.imageCacheBytes system property is not set. */
+    public static final long DEFAULT_BUDGET_BYTES = 16L << 20;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long budgetBytes;
+    private final Map<String, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+
+    /**
+     * Creates a cache with the budget from the jordle.imageCacheBytes system property.
+     */
+    public ImageCache() {
+        this(Long.getLong("jordle.imageCacheBytes", DEFAULT_BUDGET_BYTES));
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param budgetBytes the most memory the cached pixels should take, in bytes
+     */
+    public ImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns an image scaled to fit a box, keeping its aspect ratio. The first request for a
+     * file and size starts decoding it in the background and returns an image that fills in
+     * once decoded; later requests return the same image.
+     *
+     * @param fileName the image file
+     * @param width the width of the box in pixels
+     * @param height the height of the box in pixels
+     * @return the image
+     */
+    public synchronized Image get(String fileName, int width, int height) {
+        String key = fileName + '@' + width + 'x' + height;
+        Image image = images.get(key);
+        if (image == null) {
+            image = new Image(new File(fileName).toURI().toString(), width, height, true, true, true);
+            Image loading = image;
+            image.errorProperty().addListener((observable, wasError, isError) -> {
+                System.err.println("Could not load image " + fileName + ": "
+                    + loading.getException().getMessage());
+                remove(key, loading);
+            });
+            images.put(key, image);
+            usedBytes += bytes(width, height);
+            evict();
+        }
+        return image;
+    }
+
+    /**
+     * Getter for the estimated memory held by the cache.
+     *
+     * @return the estimated size of the cached pixels in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Drops an image that failed to load, so that it is retried next time.
+     *
+     * @param key the cache key
+     * @param image the failed image
+     */
+    private synchronized void remove(String key, Image image) {
+        if (images.get(key) == image) {
+            images.remove(key);
+            usedBytes -= bytes(image.getRequestedWidth(), image.getRequestedHeight());
+        }
+    }
+
+    /**
+     * Drops the least recently used images until the cache is within budget. The most recent
+     * image is always kept, even if it alone is over budget.
+     */
+    private void evict() {
+        Iterator<Image> oldest = images.values().iterator();
+        while (usedBytes > budgetBytes && images.size() > 1) {
+            Image image = oldest.next();
+            usedBytes -= bytes(image.getRequestedWidth(), image.getRequestedHeight());
+            oldest.remove();
+        }
+    }
+
+    /**
+     * Estimates the memory of an image from the box it is scaled to fit, which bounds its
+     * decoded size.
+     *
+     * @param width the width of the box
+     * @param height the height of the box
+     * @return the estimated size in bytes
+     */
+    private static long bytes(double width, double height) {
+        return (long) width * (long) height * BYTES_PER_PIXEL;
+    }
+}
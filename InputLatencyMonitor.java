@@ -0,0 +1,137 @@
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Measures how long key presses take to reach the screen, one histogram per kind of action.
+ *
+ * A key press is timestamped when its handler starts, and measured only if the handler changed
+ * the board, since only then is a pulse sure to follow. The scene's post-layout pulse listener
+ * then ends every pending measurement: the first pulse after the handler has applied CSS and
+ * laid out the changes, and its frame goes to the renderer right after. Latency therefore
+ * covers the handler, the wait for the next pulse, and the CSS and layout passes of that pulse.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class InputLatencyMonitor {
+
+    /** A letter typed into a tile. */
+    public static final int LETTER = 0;
+    /** A letter removed with backspace. */
+    public static final int BACKSPACE = 1;
+    /** A guess submitted and revealed with enter. */
+    public static final int ENTER = 2;
+    private static final String[] NAMES = {"letter", "backspace", "enter"};
+    private static final int MAX_PENDING = 64;
+    private static final long OVERLAY_PERIOD_NANOS = 500_000_000L;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[NAMES.length];
+    private final long[] pendingStart = new long[MAX_PENDING];
+    private final int[] pendingAction = new int[MAX_PENDING];
+    private final Label overlay = new Label();
+    private int pending;
+    private long overlayUpdated;
+
+    /**
+     * Creates a monitor with empty histograms.
+     */
+    public InputLatencyMonitor() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        overlay.setStyle("-fx-font-family: monospace; -fx-font-size: 11px;");
+    }
+
+    /**
+     * Starts measuring pulses of a scene.
+     *
+     * @param scene the scene the key presses are handled in
+     */
+    public void attach(Scene scene) {
+        scene.addPostLayoutPulseListener(this::pulse);
+    }
+
+    /**
+     * Getter for the overlay label, which shows the percentiles of every action and refreshes
+     * twice a second.
+     *
+     * @return the overlay
+     */
+    public Label getOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Starts measuring a key press whose handler has changed the board. The next pulse ends the
+     * measurement.
+     *
+     * @param action {@link #LETTER}, {@link #BACKSPACE} or {@link #ENTER}
+     * @param start the System.nanoTime() taken first thing in the key handler
+     */
+    public void begin(int action, long start) {
+        if (pending < MAX_PENDING) {
+            pendingStart[pending] = start;
+            pendingAction[pending] = action;
+            pending++;
+        }
+    }
+
+    /**
+     * Ends the pending measurements at the end of a pulse's layout pass.
+     */
+    private void pulse() {
+        long now = System.nanoTime();
+        for (int i = 0; i < pending; i++) {
+            histograms[pendingAction[i]].record(now - pendingStart[i]);
+        }
+        pending = 0;
+        if (now - overlayUpdated >= OVERLAY_PERIOD_NANOS) {
+            overlayUpdated = now;
+            overlay.setText(summary());
+        }
+    }
+
+    /**
+     * Summarises the percentiles of every action that has been measured.
+     *
+     * @return one line per action
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < histograms.length; i++) {
+            LatencyHistogram histogram = histograms[i];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            if (text.length() > 0) {
+                text.append('\n');
+            }
+            text.append(String.format("%-9s n=%-5d p50 %6.2f ms  p99 %6.2f ms  max %6.2f ms",
+                NAMES[i], histogram.getCount(),
+                LatencyHistogram.millis(histogram.percentile(0.5)),
+                LatencyHistogram.millis(histogram.percentile(0.99)),
+                LatencyHistogram.millis(histogram.getMax())));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Appends the full distribution of every action to a file.
+     *
+     * @param fileName the file to append to
+     */
+    public void dump(String fileName) {
+        try (PrintWriter out = new PrintWriter(new FileWriter(fileName, true))) {
+            out.printf("# Jordle input latency, %tc%n", System.currentTimeMillis());
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i].write(NAMES[i], out);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write " + fileName + ": " + e.getMessage());
+        }
+    }
+}
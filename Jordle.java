@@ -1,19 +1,21 @@
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.prefs.Preferences;
 
 /**
@@ -23,22 +25,47 @@ import java.util.prefs.Preferences;
  * @version 1.0
  */
 public class Jordle extends Application {
+    private static final long HINT_BUDGET_MILLIS = Long.getLong("jordle.hintBudgetMillis", 500);
+    private static final String STYLESHEET = new File("jordle.css").toURI().toString();
+    private static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
+    private static final boolean LATENCY = Boolean.getBoolean("jordle.latency");
+    private static final String LATENCY_FILE = System.getProperty("jordle.latencyFile", "latency.txt");
+    private static final boolean PREBUILD = Boolean.parseBoolean(System.getProperty("jordle.prebuild", "true"));
+    private static final boolean LABEL_BOARDS = "label".equals(System.getProperty("jordle.boards", "canvas"));
     private Backend backend;
+    private final FeedbackHistory history = new FeedbackHistory();
+    private volatile HintEngine hintEngine;
     private Label statusLabel;
-    private GridPane gameGrid;
+    private FlowPane boardArea;
+    private BoardView[] boards;
+    private Keyboard keyboard;
+    private boolean[] solved;
+    private boolean gameOver;
+    private byte[] codes;
+    private int boardCount = 1;
+    private final char[] currentGuess = new char[5];
     private int currentRow = 0;
     private int currentCol = 0;
     private Stage primaryStage;
-    private Preferences prefs;
+    private GameLog gameLog;
     private int totalGames = 0;
     private int gamesWon = 0;
     private double winPercentage = 0;
     private int currentStreak = 0;
     private int maxStreak = 0;
     private boolean isDarkMode = false;
-    private MediaPlayer backgroundMusicPlayer;
-    private MediaPlayer correctSoundPlayer;
-    private MediaPlayer incorrectSoundPlayer;
+    private boolean isAdversarial = false;
+    private boolean isHard = false;
+    private HardMode hardMode;
+    private final MediaAssets media = new MediaAssets();
+    private final ImageCache images = new ImageCache();
+    private CompletableFuture<GameLayout> gameLayoutBuild;
+    private Scene gameScene;
+    private Stage resultStage;
+    private ImageView resultImage;
+    private Label resultMessage;
+    private Stage instructionsStage;
+    private InputLatencyMonitor latency;
 
     /**
      * Main method to launch the Jordle game.
@@ -59,39 +86,69 @@ public class Jordle extends Application {
         this.primaryStage = primaryStage;
         primaryStage.setTitle("Jordle");
 
-        prefs = Preferences.userNodeForPackage(Jordle.class);
+        gameLog = GameLog.open(GameLog.defaultDirectory());
         loadStatistics();
-        
-        setupMediaPlayers();
 
         Scene welcomeScene = createWelcomeScene();
         primaryStage.setScene(welcomeScene);
         primaryStage.show();
 
-        if (backgroundMusicPlayer != null) {
-            backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-            backgroundMusicPlayer.play();
+        loadMedia();
+        if (PREBUILD) {
+            prebuild();
         }
     }
 
     /**
-     * Sets up media players for sound effects and background music.
+     * Builds the game layout on a background thread and the popups just after the welcome
+     * scene is shown, so that pressing Play or finishing a game does not build them. The
+     * layout's nodes are only handed to the game's fields on the FX thread.
      */
-    private void setupMediaPlayers() {
-        try {
-            Media backgroundMusic = new Media(new File("background_music.mp3").toURI().toString());
-            backgroundMusicPlayer = new MediaPlayer(backgroundMusic);
-
-            Media correctSound = new Media(new File("correct_sound.mp3").toURI().toString());
-            correctSoundPlayer = new MediaPlayer(correctSound);
+    private void prebuild() {
+        gameLayoutBuild = CompletableFuture.supplyAsync(this::createGameLayout);
+        Platform.runLater(() -> {
+            getResultStage();
+            getInstructionsStage();
+        });
+    }
 
-            Media incorrectSound = new Media(new File("incorrect_sound.mp3").toURI().toString());
-            incorrectSoundPlayer = new MediaPlayer(incorrectSound);
-        } catch (Exception e) {
-            System.err.println("Could not load media files: " + e.getMessage());
+    /**
+     * Releases the sounds and writes the game history, and the input latencies if measured,
+     * before the application exits.
+     */
+    @Override
+    public void stop() {
+        if (latency != null) {
+            latency.dump(LATENCY_FILE);
+        }
+        media.close();
+        if (gameLog != null) {
+            gameLog.close();
         }
     }
 
+    /**
+     * Starts loading sound effects, background music and result images in the background
+     * while the welcome scene is showing. The music starts once it is ready.
+     */
+    private void loadMedia() {
+        media.loadClip("correct", "correct_sound.mp3");
+        media.loadClip("incorrect", "incorrect_sound.mp3");
+        media.playMusic("background_music.mp3");
+        getResultImage(true);
+        getResultImage(false);
+    }
+
+    /**
+     * Gets the result popup image, decoded once at the size the popup shows it.
+     *
+     * @param isWin Whether to get the image for a won game
+     * @return The image, empty until it has loaded
+     */
+    private Image getResultImage(boolean isWin) {
+        return images.get(isWin ? "win_image.jpg" : "lose_image.jpg", 200, 200);
+    }
+
     /**
      * Creates the welcome scene with theme toggle and statistics.
      *
@@ -112,25 +169,106 @@ public class Jordle extends Application {
         bottomBox.setAlignment(Pos.CENTER);
 
         Button playButton = new Button("Play");
-        playButton.setStyle("-fx-font-size: 18px; -fx-background-color: #4CAF50; -fx-text-fill: white; -fx-background-radius: 20;");
+        playButton.getStyleClass().add("action-button");
         playButton.setOnAction(e -> showGameScene());
 
         ToggleButton themeToggle = new ToggleButton(isDarkMode ? "Light Mode" : "Dark Mode");
-        themeToggle.setStyle("-fx-font-size: 18px; -fx-background-color: #4CAF50; -fx-text-fill: white; -fx-background-radius: 20;");
+        themeToggle.getStyleClass().add("action-button");
         themeToggle.setOnAction(e -> toggleTheme(themeToggle));
 
-        VBox statsBox = createStatisticsDisplay();
+        ToggleButton adversarialToggle = new ToggleButton("Adversarial Mode");
+        adversarialToggle.getStyleClass().add("action-button");
+        adversarialToggle.setOnAction(e -> isAdversarial = adversarialToggle.isSelected());
+
+        ToggleButton hardToggle = new ToggleButton("Hard Mode");
+        hardToggle.getStyleClass().add("action-button");
+        hardToggle.setOnAction(e -> isHard = hardToggle.isSelected());
 
-        bottomBox.getChildren().addAll(statsBox,themeToggle, playButton);
+        ChoiceBox<Integer> boardChoice = new ChoiceBox<>();
+        boardChoice.getItems().addAll(1, 4, 8, 16, 32);
+        boardChoice.setValue(boardCount);
+        boardChoice.setStyle("-fx-font-size: 18px;");
+        boardChoice.setOnAction(e -> boardCount = boardChoice.getValue());
+        Label boardLabel = new Label("Boards:");
+        boardLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: green;");
+        VBox boardBox = new VBox(5, boardLabel, boardChoice);
+        boardBox.setAlignment(Pos.CENTER);
 
+        VBox statsBox = createStatisticsDisplay();
+
+        bottomBox.getChildren().addAll(statsBox, themeToggle, adversarialToggle, hardToggle, boardBox,
+            playButton);
 
         welcomeLayout.getChildren().addAll(titleLabel, backgroundImage, bottomBox);
 
-        return new Scene(welcomeLayout, 600, 800);
+        Scene scene = new Scene(welcomeLayout, 600, 800);
+        scene.getStylesheets().add(STYLESHEET);
+        return scene;
     }
 
+    /**
+     * Shows the game scene with a new game. The scene is built on first use and reused after.
+     */
     private void showGameScene() {
-        backend = new Backend();
+        prepareHints();
+        if (backend == null) {
+            // In adversarial mode the backend dodges every guess instead of fixing a target.
+            // It plays a single board; several boards always get fixed targets.
+            if (boardCount > 1) {
+                backend = new MultiBackend(boardCount);
+            } else {
+                backend = isAdversarial ? new AdversarialBackend() : new Backend();
+            }
+            // Hard mode follows the hints of a single board.
+            hardMode = isHard && boardCount == 1 ? new HardMode() : null;
+        }
+        Scene scene = getGameScene();
+        if (boards.length != boardCount) {
+            createBoards(boardCount);
+        }
+        scene.getRoot().setStyle(getThemeStyle());
+        scene.getRoot().pseudoClassStateChanged(DARK, isDarkMode);
+        primaryStage.setScene(scene);
+        restartGame();
+    }
+
+    /**
+     * Gets the game scene, creating it on first use around the prebuilt layout if there is one.
+     *
+     * @return The game scene
+     */
+    private Scene getGameScene() {
+        if (gameScene == null) {
+            // Node trees may be built off the FX thread, but a Scene must be created on it.
+            GameLayout layout = gameLayoutBuild != null ? gameLayoutBuild.join() : createGameLayout();
+            boardArea = layout.boardArea;
+            boards = layout.boards;
+            solved = new boolean[boards.length];
+            codes = new byte[boards.length];
+            keyboard = layout.keyboard;
+            statusLabel = layout.statusLabel;
+            VBox gameLayout = layout.root;
+            if (LATENCY) {
+                latency = new InputLatencyMonitor();
+                gameLayout.getChildren().add(latency.getOverlay());
+            }
+            gameScene = new Scene(gameLayout, 600, 800);
+            gameScene.getStylesheets().add(STYLESHEET);
+            gameScene.setOnKeyPressed(this::handleKeyPress);
+            if (latency != null) {
+                latency.attach(gameScene);
+            }
+        }
+        return gameScene;
+    }
+
+    /**
+     * Creates the layout of the game scene: title, grid and buttons. Only touches nodes that
+     * are not yet in a scene and sets no fields, so it may run on a background thread.
+     *
+     * @return The game layout
+     */
+    private GameLayout createGameLayout() {
         VBox gameLayout = new VBox(20);
         gameLayout.setAlignment(Pos.CENTER);
         gameLayout.setPadding(new Insets(20));
@@ -138,66 +276,85 @@ public class Jordle extends Application {
         Label titleLabel = new Label("Jordle");
         titleLabel.setStyle("-fx-font-size: 48px; -fx-font-weight: bold; -fx-text-fill: green;");
 
-        gameGrid = createGameGrid();
-
-        HBox buttonBox = createGameButtons();
-
-        gameLayout.getChildren().addAll(titleLabel,gameGrid, buttonBox);
-        gameLayout.setStyle(getThemeStyle());
-
-        Scene gameScene = new Scene(gameLayout, 600, 800);
-        gameScene.setOnKeyPressed(this::handleKeyPress);
+        FlowPane area = new FlowPane(20, 20);
+        area.setAlignment(Pos.CENTER);
+        BoardView[] views = newBoards(1);
+        for (BoardView view : views) {
+            area.getChildren().add(view.getNode());
+        }
+        ScrollPane boardScroller = new ScrollPane(area);
+        boardScroller.setFitToWidth(true);
+        boardScroller.setStyle("-fx-background-color: transparent; -fx-background: transparent;");
+        VBox.setVgrow(boardScroller, Priority.ALWAYS);
 
-        gameGrid.requestFocus();
+        Keyboard keys = new Keyboard(this::handleKey);
 
+        Label status = new Label("Try guessing a word!");
+        HBox buttonBox = createGameButtons(status);
 
-        primaryStage.setScene(gameScene);
+        gameLayout.getChildren().addAll(titleLabel,boardScroller, keys.getView(), buttonBox);
+        return new GameLayout(gameLayout, area, views, keys, status);
     }
-    
+
     /**
-     * Creates the game grid for letter input and display.
+     * Creates the boards for letter input and display. A single board has the classic six
+     * rows; several boards get five more rows than there are boards, as in Quordle. Boards are
+     * drawn on canvases unless -Djordle.boards=label asks for the grid of Labels.
      *
-     * @return GridPane representing the game grid
-     */
-    private GridPane createGameGrid() {
-        GridPane grid = new GridPane();
-        grid.setHgap(10);
-        grid.setVgap(10);
-        grid.setAlignment(Pos.CENTER);
-
-        for (int row = 0; row < 6; row++) {
-            for (int col = 0; col < 5; col++) {
-                Label cell = new Label();
-                cell.setStyle("-fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center; -fx-background-color: white;");
-                grid.add(cell, col, row);
-            }
+     * @param count The number of boards
+     */
+    private void createBoards(int count) {
+        boards = newBoards(count);
+        solved = new boolean[count];
+        codes = new byte[count];
+        boardArea.getChildren().clear();
+        for (BoardView board : boards) {
+            boardArea.getChildren().add(board.getNode());
         }
+    }
 
-        return grid;
+    /**
+     * Creates empty boards, not yet in the board area.
+     *
+     * @param count The number of boards
+     * @return The boards
+     */
+    private static BoardView[] newBoards(int count) {
+        int rows = count == 1 ? 6 : count + 5;
+        BoardView[] views = new BoardView[count];
+        for (int b = 0; b < count; b++) {
+            views[b] = LABEL_BOARDS ? new LabelBoardView(rows, count > 1)
+                : new CanvasBoardView(rows, count > 1);
+        }
+        return views;
     }
 
     /**
-     * Creates game control buttons (Instructions and Restart).
+     * Creates game control buttons (Hint, Instructions and Restart).
      *
+     * @param status The status label shown before the buttons
      * @return HBox containing game control buttons
      */
-    private HBox createGameButtons() {
+    private HBox createGameButtons(Label status) {
         HBox buttonBox = new HBox(20);
         buttonBox.setAlignment(Pos.CENTER);
 
          // Status Label
-        statusLabel = new Label("Try guessing a word!");
-        statusLabel.setStyle("-fx-font-size: 18px;");
+        status.setStyle("-fx-font-size: 18px;");
         
         Button instructionsButton = new Button("Instructions");
-        instructionsButton.setStyle("-fx-font-size: 18px; -fx-background-color: #4CAF50; -fx-text-fill: white; -fx-background-radius: 20;");
+        instructionsButton.getStyleClass().add("action-button");
         instructionsButton.setOnAction(e -> showInstructions());
 
         Button restartButton = new Button("Restart");
-        restartButton.setStyle("-fx-font-size: 18px; -fx-background-color: #4CAF50; -fx-text-fill: white; -fx-background-radius: 20;");
+        restartButton.getStyleClass().add("action-button");
         restartButton.setOnAction(e -> restartGame());
 
-        buttonBox.getChildren().addAll(statusLabel, restartButton, instructionsButton);
+        Button hintButton = new Button("Hint");
+        hintButton.getStyleClass().add("action-button");
+        hintButton.setOnAction(e -> showHint(hintButton));
+
+        buttonBox.getChildren().addAll(status, restartButton, hintButton, instructionsButton);
         return buttonBox;
     }
 
@@ -208,10 +365,29 @@ public class Jordle extends Application {
      * @param event Key press event
      */
     private void handleKeyPress(KeyEvent event) {
-        if (currentRow >= 6) return;
+        if (latency != null) {
+            if (event.getCode() == KeyCode.F12) {
+                latency.dump(LATENCY_FILE);
+                statusLabel.setText("Latencies written to " + LATENCY_FILE);
+                return;
+            }
+        }
+        handleKey(event.getCode(), event.getText());
+    }
 
+    /**
+     * Handles a key typed on the keyboard or clicked on the on-screen keyboard.
+     *
+     * @param code The key
+     * @param text The text the key types
+     */
+    private void handleKey(KeyCode code, String text) {
+        if (gameOver || currentRow >= boards[0].getRows()) return;
+        long start = System.nanoTime();
+        int row = currentRow;
+        int col = currentCol;
 
-        switch (event.getCode()) {
+        switch (code) {
             case BACK_SPACE:
                 handleBackspace();
                 break;
@@ -219,7 +395,27 @@ public class Jordle extends Application {
                 handleEnter();
                 break;
             default:
-                handleLetterInput(event);
+                handleLetterInput(text);
+        }
+        // Keys that change nothing, such as a sixth letter, cause no pulse to end a measurement.
+        if (latency != null && (currentRow != row || currentCol != col)) {
+            measureLatency(code, start);
+        }
+    }
+
+    /**
+     * Measures the time until a key press that changed the board is painted.
+     *
+     * @param code The key pressed
+     * @param start The System.nanoTime() when the key's handler started
+     */
+    private void measureLatency(KeyCode code, long start) {
+        if (code == KeyCode.BACK_SPACE) {
+            latency.begin(InputLatencyMonitor.BACKSPACE, start);
+        } else if (code == KeyCode.ENTER) {
+            latency.begin(InputLatencyMonitor.ENTER, start);
+        } else {
+            latency.begin(InputLatencyMonitor.LETTER, start);
         }
     }
 
@@ -229,21 +425,31 @@ public class Jordle extends Application {
     private void handleBackspace() {
         if (currentCol > 0) {
             currentCol--;
-            Label cell = (Label) gameGrid.getChildren().get(currentRow * 5 + currentCol);
-            cell.setText("");
+            for (int b = 0; b < boards.length; b++) {
+                if (!solved[b]) {
+                    boards[b].clearLetter(currentRow, currentCol);
+                }
+            }
         }
     }
 
     /**
      * Handles letter input for the game grid.
      *
-     * @param event Key press event
+     * @param input The text typed
      */
-    private void handleLetterInput(KeyEvent event) {
-        String input = event.getText().toLowerCase();
-        if (input.matches("[a-z]") && currentCol < 5) {
-            Label cell = (Label) gameGrid.getChildren().get(currentRow * 5 + currentCol);
-            cell.setText(input.toUpperCase());
+    private void handleLetterInput(String input) {
+        if (input.length() != 1 || currentCol >= 5) {
+            return;
+        }
+        char letter = Character.toLowerCase(input.charAt(0));
+        if (letter >= 'a' && letter <= 'z') {
+            currentGuess[currentCol] = letter;
+            for (int b = 0; b < boards.length; b++) {
+                if (!solved[b]) {
+                    boards[b].setLetter(currentRow, currentCol, letter);
+                }
+            }
             currentCol++;
         }
     }
@@ -252,6 +458,9 @@ public class Jordle extends Application {
      * Handles enter key press to evaluate guess.
      */
     private void handleEnter() {
+        if (gameOver) {
+            return;
+        }
         if (currentCol != 5) {
             showAlert("Invalid Guess", "Please enter a 5-letter word.");
             return;
@@ -259,46 +468,107 @@ public class Jordle extends Application {
 
         String guess = getCurrentRowGuess();
         try {
-            String result = backend.check(guess);
-            updateGridColors(result);
-            checkGameStatus(result);
+            if (boards.length == 1) {
+                if (hardMode != null) {
+                    hardMode.check(guess);
+                }
+                int code = backend.checkCode(guess);
+                history.add(guess, code);
+                if (hardMode != null) {
+                    hardMode.add(PackedWords.pack(guess), code);
+                }
+                codes[0] = (byte) code;
+            } else {
+                ((MultiBackend) backend).checkAll(guess, codes);
+            }
         } catch (InvalidGuessException e) {
             showAlert("Invalid Guess", e.getMessage());
+            return;
         }
+        updateGridColors();
+        checkGameStatus();
     }
 
     /**
-     * Gets the current row's guess from the game grid.
+     * Computes the best next guess in the background and shows it in the status label.
      *
-     * @return The current row's guess as a string
+     * @param hintButton The hint button, disabled while the hint is computed
      */
-    private String getCurrentRowGuess() {
-        StringBuilder guess = new StringBuilder();
-        for (int col = 0; col < 5; col++) {
-            Label cell = (Label) gameGrid.getChildren().get(currentRow * 5 + col);
-            guess.append(cell.getText());
+    private void showHint(Button hintButton) {
+        if (gameOver || currentRow >= boards[0].getRows()) {
+            return;
+        }
+        if (boards.length > 1) {
+            statusLabel.setText("Hints are for single-board games.");
+            return;
         }
-        return guess.toString();
+        hintButton.setDisable(true);
+        statusLabel.setText("Thinking...");
+        FeedbackHistory snapshot = history.copy();
+        HintEngine engine = hintEngine;
+        CompletableFuture.supplyAsync(() -> engine.suggest(snapshot, HINT_BUDGET_MILLIS))
+            .whenComplete((hint, error) -> Platform.runLater(() -> {
+                hintButton.setDisable(false);
+                if (error != null) {
+                    statusLabel.setText("No hint available.");
+                } else if (hint == null) {
+                    statusLabel.setText("No word fits your guesses.");
+                } else {
+                    statusLabel.setText("Try " + hint.getWord().toUpperCase() + " ("
+                        + hint.getCandidates() + " words left)");
+                }
+                boardArea.requestFocus();
+            }));
+        boardArea.requestFocus();
     }
 
     /**
-     * Updates grid cell colors based on guess correctness.
+     * Creates the hint engine on the first game. Hints score guesses directly at first, so the
+     * first one still answers within its budget; the constraint index and the feedback matrix
+     * are built in the background, and the matrix takes over once ready, if it fits in the heap.
+     */
+    private void prepareHints() {
+        if (hintEngine != null) {
+            return;
+        }
+        WordBank bank = WordBank.shared();
+        hintEngine = new HintEngine(bank);
+        CompletableFuture.runAsync(bank::constraints);
+        if (FeedbackMatrix.fits(bank.size())) {
+            CompletableFuture.supplyAsync(() -> FeedbackMatrix.of(bank))
+                .thenAccept(matrix -> hintEngine = new HintEngine(bank, matrix, ForkJoinPool.commonPool()))
+                .exceptionally(e -> {
+                    System.err.println("Could not build the feedback matrix: " + e.getMessage());
+                    return null;
+                });
+        }
+    }
+
+    /**
+     * Gets the current row's guess from the letters typed so far.
      *
-     * @param result Result string from Backend's check method
-     */
-    private void updateGridColors(String result) {
-        for (int col = 0; col < 5; col++) {
-            Label cell = (Label) gameGrid.getChildren().get(currentRow * 5 + col);
-            switch (result.charAt(col)) {
-                case 'g':
-                    cell.setStyle("-fx-background-color: green; -fx-text-fill: white; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;");
-                    break;
-                case 'y':
-                    cell.setStyle("-fx-background-color: yellow; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;");
-                    break;
-                case 'i':
-                    cell.setStyle("-fx-background-color: grey; -fx-text-fill: white; -fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center;");
-                    break;
+     * @return The current row's guess as a string
+     */
+    private String getCurrentRowGuess() {
+        return new String(currentGuess, 0, currentCol);
+    }
+
+    /**
+     * Updates grid cell colors of every unsolved board based on the feedback in codes, and the
+     * on-screen keyboard with the best feedback of each letter over those boards.
+     */
+    private void updateGridColors() {
+        String guess = getCurrentRowGuess();
+        for (int b = 0; b < boards.length; b++) {
+            if (!solved[b]) {
+                int code = codes[b] & 0xFF;
+                String result = Backend.decode(code);
+                boards[b].reveal(currentRow, result);
+                keyboard.update(guess, result);
+                if (code == Backend.ALL_GREEN) {
+                    solved[b] = true;
+                    boards[b].setSolved(true);
+                }
             }
         }
         currentRow++;
@@ -309,7 +579,20 @@ public class Jordle extends Application {
      * Shows game instructions in a separate window.
      */
     private void showInstructions() {
-        Stage instructionsStage = new Stage();
+        getInstructionsStage().show();
+        boardArea.requestFocus();
+    }
+
+    /**
+     * Gets the instructions window, creating it on first use.
+     *
+     * @return The instructions window
+     */
+    private Stage getInstructionsStage() {
+        if (instructionsStage != null) {
+            return instructionsStage;
+        }
+        instructionsStage = new Stage();
         instructionsStage.initModality(Modality.APPLICATION_MODAL);
         instructionsStage.setTitle("Jordle Instructions");
 
@@ -339,9 +622,7 @@ public class Jordle extends Application {
 
         Scene instructionsScene = new Scene(instructionsLayout, 400, 400);
         instructionsStage.setScene(instructionsScene);
-        instructionsStage.show();
-        gameGrid.requestFocus();
-
+        return instructionsStage;
     }
 
     /**
@@ -364,17 +645,12 @@ public class Jordle extends Application {
      * @return ImageView containing the Jordle background image
      */
     private ImageView loadBackgroundImage() {
-        try {
-            Image image = new Image(new FileInputStream("jordleImage.jpg"));
-            ImageView imageView = new ImageView(image);
-            imageView.setFitWidth(400);
-            imageView.setFitHeight(300);
-            imageView.setPreserveRatio(true);
-            return imageView;
-        } catch (Exception e) {
-            System.err.println("Could not load background image: " + e.getMessage());
-            return new ImageView(); // Return empty ImageView if image fails
-        }
+        // Loads in the background, so the welcome scene shows before the image is decoded.
+        ImageView imageView = new ImageView(images.get("jordleImage.jpg", 400, 300));
+        imageView.setFitWidth(400);
+        imageView.setFitHeight(300);
+        imageView.setPreserveRatio(true);
+        return imageView;
     }
 
     /**
@@ -421,6 +697,7 @@ public class Jordle extends Application {
         themeToggle.setText(isDarkMode ? "Light Mode" : "Dark Mode");
         
         primaryStage.getScene().getRoot().setStyle(getThemeStyle());
+        primaryStage.getScene().getRoot().pseudoClassStateChanged(DARK, isDarkMode);
     }
 
     /**
@@ -440,23 +717,42 @@ public class Jordle extends Application {
      * @param isWin Whether the game was won
      */
     private void showResultPopup(boolean isWin) {
-        Stage resultStage = new Stage();
+        Stage stage = getResultStage();
+        stage.setTitle(isWin ? "Congratulations!" : "Game Over");
+        resultImage.setImage(getResultImage(isWin));
+        resultMessage.setText(isWin 
+            ? "Congratulations! You guessed the word!" 
+            : "Better luck next time! The word was " + getMissedWords());
+        stage.show();
+
+        media.playClip(isWin ? "correct" : "incorrect");
+        boardArea.requestFocus();
+
+    }
+
+    /**
+     * Gets the result popup window, creating it on first use. The image and message are set
+     * each time it is shown.
+     *
+     * @return The result popup window
+     */
+    private Stage getResultStage() {
+        if (resultStage != null) {
+            return resultStage;
+        }
+        resultStage = new Stage();
         resultStage.initModality(Modality.APPLICATION_MODAL);
-        resultStage.setTitle(isWin ? "Congratulations!" : "Game Over");
 
         VBox resultLayout = new VBox(20);
         resultLayout.setAlignment(Pos.CENTER);
         resultLayout.setPadding(new Insets(20));
 
-        String imagePath = isWin ? "win_image.jpg" : "lose_image.jpg";
-        ImageView resultImage = new ImageView(new Image(new File(imagePath).toURI().toString()));
+        resultImage = new ImageView();
         resultImage.setFitWidth(200);
         resultImage.setFitHeight(200);
         resultImage.setPreserveRatio(true);
 
-        Label resultMessage = new Label(isWin 
-            ? "Congratulations! You guessed the word!" 
-            : "Better luck next time! The word was " + backend.getTarget());
+        resultMessage = new Label();
         
         Button closeButton = new Button("Close");
         closeButton.setOnAction(e -> resultStage.close());
@@ -465,15 +761,7 @@ public class Jordle extends Application {
 
         Scene resultScene = new Scene(resultLayout, 300, 400);
         resultStage.setScene(resultScene);
-        resultStage.show();
-
-        if (isWin && correctSoundPlayer != null) {
-            correctSoundPlayer.play();
-        } else if (!isWin && incorrectSoundPlayer != null) {
-            incorrectSoundPlayer.play();
-        }
-        gameGrid.requestFocus();
-
+        return resultStage;
     }
 
     /**
@@ -482,69 +770,136 @@ public class Jordle extends Application {
      * @param isWin Whether the game was won
      */
     private void updateStatistics(boolean isWin) {
-        totalGames++;
-        if (isWin) {
-            gamesWon++;
-            currentStreak++;
-            maxStreak = Math.max(currentStreak, maxStreak);
-        } else {
-            currentStreak = 0;
-        }
-        
-        winPercentage = (double) gamesWon / totalGames * 100;
-
-        prefs.putInt("totalGames", totalGames);
-        prefs.putInt("gamesWon", gamesWon);
-        prefs.putInt("currentStreak", currentStreak);
-        prefs.putInt("maxStreak", maxStreak);
+        gameLog.record(backend.getPackedTarget(), history, isWin);
+        readStatistics();
     }
 
     /**
-     * Loads saved game statistics.
+     * Loads saved game statistics. Statistics saved in Preferences by older versions are
+     * carried over into the game history the first time it is opened.
      */
     private void loadStatistics() {
-        totalGames = prefs.getInt("totalGames", 0);
-        gamesWon = prefs.getInt("gamesWon", 0);
-        currentStreak = prefs.getInt("currentStreak", 0);
-        maxStreak = prefs.getInt("maxStreak", 0);
-        
+        if (gameLog.getTotalGames() == 0) {
+            Preferences prefs = Preferences.userNodeForPackage(Jordle.class);
+            int savedGames = prefs.getInt("totalGames", 0);
+            if (savedGames > 0) {
+                gameLog.seed(savedGames, prefs.getInt("gamesWon", 0),
+                    prefs.getInt("currentStreak", 0), prefs.getInt("maxStreak", 0));
+            }
+        }
+        readStatistics();
+    }
+
+    /**
+     * Copies the statistics from the game history.
+     */
+    private void readStatistics() {
+        totalGames = gameLog.getTotalGames();
+        gamesWon = gameLog.getGamesWon();
+        currentStreak = gameLog.getCurrentStreak();
+        maxStreak = gameLog.getMaxStreak();
+
         winPercentage = totalGames > 0 ? (double) gamesWon / totalGames * 100 : 0;
     }
 
     /**
-     * Checks game status after each guess.
-     *
-     * @param result Result string from Backend's check method
+     * Checks game status after each guess. Statistics are only kept for single-board games,
+     * and a game is recorded once: no guesses are taken after it ends.
      */
-    private void checkGameStatus(String result) {
-        if (result.equals("ggggg")) {
-            statusLabel.setText("Congratulations! You've guessed the word!");
-            updateStatistics(true);
+    private void checkGameStatus() {
+        boolean allSolved = true;
+        for (boolean boardSolved : solved) {
+            allSolved &= boardSolved;
+        }
+        if (allSolved) {
+            gameOver = true;
+            statusLabel.setText(boards.length == 1
+                ? "Congratulations! You've guessed the word!"
+                : "Congratulations! You've guessed every word!");
+            if (boards.length == 1) {
+                updateStatistics(true);
+            }
             showResultPopup(true);
-        } else if (currentRow >= 6) {
-            statusLabel.setText("Game over. The word was " + backend.getTarget() + ".");
-            updateStatistics(false);
+        } else if (currentRow >= boards[0].getRows()) {
+            gameOver = true;
+            statusLabel.setText("Game over. The word was " + getMissedWords() + ".");
+            if (boards.length == 1) {
+                updateStatistics(false);
+            }
             showResultPopup(false);
         }
     }
 
+    /**
+     * Gets the targets of the boards that were not solved.
+     *
+     * @return The missed target words, separated by commas
+     */
+    private String getMissedWords() {
+        if (boards.length == 1) {
+            return backend.getTarget();
+        }
+        MultiBackend multi = (MultiBackend) backend;
+        StringBuilder words = new StringBuilder();
+        for (int b = 0; b < boards.length; b++) {
+            if (!solved[b]) {
+                words.append(words.length() == 0 ? "" : ", ").append(multi.getTarget(b));
+            }
+        }
+        return words.toString();
+    }
+
     /**
      * Restarts the game by resetting grid and backend.
      */
     private void restartGame() {
         backend.reset();
+        history.clear();
+        if (hardMode != null) {
+            hardMode.clear();
+        }
         currentRow = 0;
         currentCol = 0;
+        gameOver = false;
         statusLabel.setText("Try guessing a word!");
 
         // Reset grid colors and text
-        for (int row = 0; row < 6; row++) {
-            for (int col = 0; col < 5; col++) {
-                Label cell = (Label) gameGrid.getChildren().get(row * 5 + col);
-                cell.setText("");
-                cell.setStyle("-fx-border-color: black; -fx-border-width: 2; -fx-min-width: 60; -fx-min-height: 60; -fx-alignment: center; -fx-background-color: white;");
-            }
+        for (int b = 0; b < boards.length; b++) {
+            boards[b].clear();
+            solved[b] = false;
+        }
+        keyboard.clear();
+        boardArea.requestFocus();
+    }
+
+    /**
+     * The nodes of the game scene that the game updates, built together and handed to the
+     * game's fields on the FX thread.
+     */
+    private static final class GameLayout {
+
+        private final VBox root;
+        private final FlowPane boardArea;
+        private final BoardView[] boards;
+        private final Keyboard keyboard;
+        private final Label statusLabel;
+
+        /**
+         * Creates a game layout.
+         *
+         * @param root The root of the game scene
+         * @param boardArea The pane holding the boards
+         * @param boards The boards in the board area
+         * @param keyboard The on-screen keyboard
+         * @param statusLabel The status label
+         */
+        private GameLayout(VBox root, FlowPane boardArea, BoardView[] boards, Keyboard keyboard,
+                           Label statusLabel) {
+            this.root = root;
+            this.boardArea = boardArea;
+            this.boards = boards;
+            this.keyboard = keyboard;
+            this.statusLabel = statusLabel;
         }
-        gameGrid.requestFocus();
     }
 }
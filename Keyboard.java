@@ -0,0 +1,140 @@
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Clickable on-screen keyboard whose keys show the best feedback seen so far for their letter:
+ * green over yellow over grey.
+ *
+ * The best state of each letter is kept in a 26-entry array. A revealed guess only looks at its
+ * own letters, so an update is O(word length) whatever the number of guesses, and only the keys
+ * whose state went up switch pseudo-class.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class Keyboard {
+
+    private static final String[] ROWS = {"qwertyuiop", "asdfghjkl", "zxcvbnm"};
+    private static final byte UNKNOWN = 0;
+    private static final byte GREY = 1;
+    private static final byte YELLOW = 2;
+    private static final byte GREEN = 3;
+    private static final PseudoClass[] STATES = {
+        null,
+        PseudoClass.getPseudoClass("grey"),
+        PseudoClass.getPseudoClass("yellow"),
+        PseudoClass.getPseudoClass("green")
+    };
+
+    private final VBox view = new VBox(6);
+    private final Button[] keys = new Button[26];
+    private final byte[] states = new byte[26];
+
+    /**
+     * Creates a keyboard.
+     *
+     * @param onKey called with the key code and the typed text when a key is clicked, the way
+     *              a key press would be handled
+     */
+    public Keyboard(BiConsumer<KeyCode, String> onKey) {
+        view.setAlignment(Pos.CENTER);
+        view.getStyleClass().add("keyboard");
+        for (int r = 0; r < ROWS.length; r++) {
+            HBox row = new HBox(6);
+            row.setAlignment(Pos.CENTER);
+            if (r == ROWS.length - 1) {
+                row.getChildren().add(createKey("Enter", KeyCode.ENTER, "", onKey));
+            }
+            for (char letter : ROWS[r].toCharArray()) {
+                String text = String.valueOf(letter);
+                Button key = createKey(text.toUpperCase(), KeyCode.getKeyCode(text.toUpperCase()), text, onKey);
+                keys[letter - 'a'] = key;
+                row.getChildren().add(key);
+            }
+            if (r == ROWS.length - 1) {
+                row.getChildren().add(createKey("\u232B", KeyCode.BACK_SPACE, "", onKey));
+            }
+            view.getChildren().add(row);
+        }
+    }
+
+    /**
+     * Creates one key. Keys never take the focus, so typing keeps going to the game.
+     *
+     * @param label the text on the key
+     * @param code the key code passed on when clicked
+     * @param text the typed text passed on when clicked
+     * @param onKey the click handler
+     * @return the key
+     */
+    private static Button createKey(String label, KeyCode code, String text,
+                                    BiConsumer<KeyCode, String> onKey) {
+        Button key = new Button(label);
+        key.getStyleClass().add("key");
+        key.setFocusTraversable(false);
+        key.setOnAction(e -> onKey.accept(code, text));
+        return key;
+    }
+
+    /**
+     * Getter for the node showing the keyboard.
+     *
+     * @return the keyboard's view
+     */
+    public Node getView() {
+        return view;
+    }
+
+    /**
+     * Raises the keys of a revealed guess to its feedback where that is better than what they
+     * show already.
+     *
+     * @param guess the guessed word, in lowercase
+     * @param result 'g', 'y' or 'i' per letter as in {@link Backend#check(String)}
+     */
+    public void update(CharSequence guess, String result) {
+        for (int i = 0; i < result.length(); i++) {
+            char c = result.charAt(i);
+            byte state = c == 'g' ? GREEN : c == 'y' ? YELLOW : GREY;
+            int letter = guess.charAt(i) - 'a';
+            if (state > states[letter]) {
+                setState(letter, state);
+            }
+        }
+    }
+
+    /**
+     * Returns every key to its unknown state for a new game.
+     */
+    public void clear() {
+        for (int letter = 0; letter < states.length; letter++) {
+            if (states[letter] != UNKNOWN) {
+                setState(letter, UNKNOWN);
+            }
+        }
+    }
+
+    /**
+     * Switches a key from its current state to a new one.
+     *
+     * @param letter the letter, 0 for 'a'
+     * @param state the new state
+     */
+    private void setState(int letter, byte state) {
+        Button key = keys[letter];
+        if (states[letter] != UNKNOWN) {
+            key.pseudoClassStateChanged(STATES[states[letter]], false);
+        }
+        if (state != UNKNOWN) {
+            key.pseudoClassStateChanged(STATES[state], true);
+        }
+        states[letter] = state;
+    }
+}
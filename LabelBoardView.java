@@ -0,0 +1,87 @@
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Board view with one {@link Tile} Label per letter in a GridPane, styled by jordle.css.
+ *
+ * Boards with more than the classic six rows get the "compact" style class, which shrinks the
+ * tiles so that several boards fit side by side.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class LabelBoardView implements BoardView {
+
+    private static final PseudoClass SOLVED = PseudoClass.getPseudoClass("solved");
+
+    private final GridPane grid = new GridPane();
+    private final Tile[][] tiles;
+
+    /**
+     * Creates a board.
+     *
+     * @param rows the number of rows
+     * @param compact whether to use small tiles
+     */
+    public LabelBoardView(int rows, boolean compact) {
+        tiles = new Tile[rows][Backend.WORD_LENGTH];
+        int gap = compact ? 2 : 10;
+        grid.setHgap(gap);
+        grid.setVgap(gap);
+        grid.setAlignment(Pos.CENTER);
+        grid.getStyleClass().add("board");
+        if (compact) {
+            grid.getStyleClass().add("compact");
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < Backend.WORD_LENGTH; col++) {
+                tiles[row][col] = new Tile();
+                grid.add(tiles[row][col].getView(), col, row);
+            }
+        }
+    }
+
+    @Override
+    public Node getNode() {
+        return grid;
+    }
+
+    @Override
+    public int getRows() {
+        return tiles.length;
+    }
+
+    @Override
+    public void setLetter(int row, int col, char letter) {
+        tiles[row][col].setLetter(letter);
+    }
+
+    @Override
+    public void clearLetter(int row, int col) {
+        tiles[row][col].clearLetter();
+    }
+
+    @Override
+    public void reveal(int row, String result) {
+        for (int col = 0; col < Backend.WORD_LENGTH; col++) {
+            tiles[row][col].reveal(result.charAt(col));
+        }
+    }
+
+    @Override
+    public void setSolved(boolean solved) {
+        grid.pseudoClassStateChanged(SOLVED, solved);
+    }
+
+    @Override
+    public void clear() {
+        for (Tile[] tileRow : tiles) {
+            for (Tile tile : tileRow) {
+                tile.clear();
+            }
+        }
+        setSolved(false);
+    }
+}
@@ -0,0 +1,144 @@
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies in nanoseconds with a fixed relative precision, in the style of
+ * HdrHistogram.
+ *
+ * Values below 256 ns get a bucket each; above that, every power of two is split into 128
+ * buckets, so a recorded value is known to within 1% up to the maximum of about 18 minutes.
+ * Recording is a few shifts and an array increment and never allocates.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** The largest value that can be told apart from larger ones. */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKETS = bucket(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    /**
+     * Records one latency. Values above {@link #MAX_VALUE} are recorded as MAX_VALUE.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        counts[bucket(value)]++;
+        total++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Getter for the number of latencies recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * Getter for the largest latency recorded.
+     *
+     * @return the maximum in nanoseconds, 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Finds the latency that a given fraction of the recorded latencies do not exceed.
+     *
+     * @param fraction the percentile as a fraction, for example 0.99
+     * @return the upper bound of the bucket holding the percentile in nanoseconds, 0 if nothing
+     *         was recorded
+     */
+    public long percentile(double fraction) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets every recorded latency.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Writes the percentile distribution, one line per non-empty bucket with its upper bound in
+     * milliseconds, the fraction of latencies at or below it and the cumulative count.
+     *
+     * @param name the name printed in the header
+     * @param out the writer
+     */
+    public void write(String name, PrintWriter out) {
+        out.printf("# %s: count %d, p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+            name, total, millis(percentile(0.5)), millis(percentile(0.9)), millis(percentile(0.99)),
+            millis(percentile(0.999)), millis(max));
+        out.printf("%12s %10s %10s%n", "Value(ms)", "Percentile", "Count");
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                seen += counts[i];
+                out.printf("%12.3f %10.6f %10d%n", millis(Math.min(highestEquivalent(i), max)),
+                    (double) seen / total, seen);
+            }
+        }
+        out.println();
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds.
+     *
+     * @param nanos a duration in nanoseconds
+     * @return the duration in milliseconds
+     */
+    public static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Finds the bucket of a value. Values below 2 * SUB_BUCKETS map to themselves; above that,
+     * a value keeps its top eight bits and the shift that drops the rest picks the range.
+     *
+     * @param value a value between 0 and MAX_VALUE
+     * @return the bucket index
+     */
+    private static int bucket(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Finds the largest value that falls in a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the largest value of the bucket
+     */
+    private static long highestEquivalent(int bucket) {
+        int shift = Math.max(0, bucket / SUB_BUCKETS - 1);
+        long lowest = (long) (bucket - shift * SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+import javafx.application.Platform;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the game's sounds off the JavaFX application thread.
+ *
+ * Sound effects are decoded once into AudioClips, which play from memory with very little
+ * latency and can be replayed or overlapped freely, unlike a MediaPlayer that has reached its
+ * end. Background music streams through a MediaPlayer that starts once it is ready. Sounds
+ * asked for before they finish loading are skipped rather than waited for.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class MediaAssets {
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "jordle-media");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, AudioClip> clips = new ConcurrentHashMap<>();
+    private MediaPlayer music;
+    private boolean closed;
+
+    /**
+     * Decodes a sound effect in the background.
+     *
+     * @param name the name to play it by
+     * @param fileName the sound file
+     */
+    public void loadClip(String name, String fileName) {
+        loader.execute(() -> {
+            try {
+                clips.put(name, new AudioClip(new File(fileName).toURI().toString()));
+            } catch (RuntimeException e) {
+                System.err.println("Could not load sound " + fileName + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Plays a sound effect, if it has been loaded.
+     *
+     * @param name the name the sound was loaded by
+     */
+    public void playClip(String name) {
+        AudioClip clip = clips.get(name);
+        if (clip != null) {
+            clip.play();
+        }
+    }
+
+    /**
+     * Opens background music in the background and loops it once it is ready to play.
+     *
+     * @param fileName the music file
+     */
+    public void playMusic(String fileName) {
+        loader.execute(() -> {
+            try {
+                MediaPlayer player = new MediaPlayer(new Media(new File(fileName).toURI().toString()));
+                player.setCycleCount(MediaPlayer.INDEFINITE);
+                player.setOnError(() -> System.err.println("Could not play music " + fileName + ": "
+                    + player.getError().getMessage()));
+                Platform.runLater(() -> {
+                    if (closed) {
+                        player.dispose();
+                        return;
+                    }
+                    music = player;
+                    // Status changes arrive on this thread, so the player cannot become ready
+                    // between the check and setting the handler.
+                    if (player.getStatus() == MediaPlayer.Status.READY) {
+                        player.play();
+                    } else {
+                        player.setOnReady(player::play);
+                    }
+                });
+            } catch (RuntimeException e) {
+                System.err.println("Could not load music " + fileName + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Stops the music and releases every sound. Must be called on the JavaFX application thread.
+     */
+    public void close() {
+        closed = true;
+        loader.shutdownNow();
+        if (music != null) {
+            music.dispose();
+            music = null;
+        }
+        clips.clear();
+    }
+}
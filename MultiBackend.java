@@ -0,0 +1,118 @@
+import java.util.Random;
+
+/**
+ * Backend for multi-board Jordle, in the style of Quordle: every guess is scored against several
+ * targets at once.
+ *
+ * {@link #checkAll(String, byte[])} validates and packs the guess once, so lowercasing and
+ * the letter counting of the guess are shared, then scores it against all targets with
+ * {@link BulkScorer}. The single-target methods of {@link Backend} use the first board.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public class MultiBackend extends Backend {
+
+    /** The most boards a game may have. */
+    public static final int MAX_BOARDS = 32;
+
+    private final Random rand;
+    // Not final: the Backend constructor calls reset() before this is assigned.
+    private int[] targets;
+
+    /**
+     * Constructor for a multi-board backend over the shared words.txt word bank.
+     *
+     * @param boards the number of boards, from 1 to {@link #MAX_BOARDS}
+     */
+    public MultiBackend(int boards) {
+        this(WordBank.shared(), new Random(), boards);
+    }
+
+    /**
+     * Constructor for a multi-board backend over a specific word bank and random source.
+     *
+     * @param words the word bank to draw targets from
+     * @param rand the random source used to pick targets
+     * @param boards the number of boards, from 1 to {@link #MAX_BOARDS}
+     */
+    public MultiBackend(WordBank words, Random rand, int boards) {
+        super(words, rand);
+        if (boards < 1 || boards > MAX_BOARDS) {
+            throw new IllegalArgumentException("Boards must be between 1 and " + MAX_BOARDS + ": "
+                + boards);
+        }
+        this.rand = rand;
+        this.targets = new int[boards];
+        reset();
+    }
+
+    /**
+     * Picks new targets for every board. The targets are distinct when the word bank has enough
+     * words.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        if (targets == null) {
+            return;
+        }
+        WordBank words = getWordBank();
+        targets[0] = super.getPackedTarget();
+        boolean distinct = words.size() >= targets.length;
+        for (int board = 1; board < targets.length; board++) {
+            int target;
+            do {
+                target = words.packed(rand.nextInt(words.size()));
+            } while (distinct && contains(target, board));
+            targets[board] = target;
+        }
+    }
+
+    /**
+     * Checks whether a word is one of the first targets.
+     *
+     * @param target the packed word
+     * @param count the number of targets to look at
+     * @return true if the word is among them
+     */
+    private boolean contains(int target, int count) {
+        for (int i = 0; i < count; i++) {
+            if (targets[i] == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scores a guess against every board in one call.
+     *
+     * @param word the word to guess, case-insensitive
+     * @param codes receives the packed feedback code for each board, as an unsigned byte; see
+     *              {@link Backend#checkCode(String)}
+     * @throws InvalidGuessException if the word is not a valid Jordle guess
+     */
+    public void checkAll(String word, byte[] codes) throws InvalidGuessException {
+        BulkScorer.score(packGuess(word), targets, codes);
+    }
+
+    /**
+     * Getter for the number of boards.
+     *
+     * @return the number of boards
+     */
+    public int getBoardCount() {
+        return targets.length;
+    }
+
+    /**
+     * Getter for the target of one board.
+     *
+     * @param board the board
+     * @return the target word
+     */
+    public String getTarget(int board) {
+        return PackedWords.unpack(targets[board]);
+    }
+}
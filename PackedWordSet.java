@@ -0,0 +1,111 @@
+/**
+ * Immutable hash set of packed words using open addressing over a primitive int array.
+ *
+ * Lookups do not box, allocate or hash Strings: a word is packed with {@link PackedWords} and
+ * probed linearly from a multiplicative hash of the packed value.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class PackedWordSet {
+
+    private static final int EMPTY = 0;
+
+    private final int[] table;
+    private final int shift;
+    private final int size;
+
+    /**
+     * Creates a set holding the given packed words, keeping the table at most half full.
+     *
+     * @param words the packed words, duplicates are ignored
+     */
+    public PackedWordSet(int[] words) {
+        int bits = 1;
+        while ((1 << bits) < words.length * 2) {
+            bits++;
+        }
+        table = new int[1 << bits];
+        shift = 32 - bits;
+        int count = 0;
+        for (int word : words) {
+            if (word >= 0 && insert(word)) {
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    /**
+     * Adds a packed word to the table. Slots hold the word plus one so that zero marks an
+     * empty slot even though "aaaaa" packs to zero.
+     *
+     * @param word the packed word
+     * @return true if the word was not already present
+     */
+    private boolean insert(int word) {
+        int key = word + 1;
+        int mask = table.length - 1;
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            if (table[slot] == EMPTY) {
+                table[slot] = key;
+                return true;
+            }
+            if (table[slot] == key) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a packed word is in the set.
+     *
+     * @param word the packed word, or -1 for a word that could not be packed
+     * @return true if the word is in the set
+     */
+    public boolean contains(int word) {
+        if (word < 0) {
+            return false;
+        }
+        int key = word + 1;
+        int mask = table.length - 1;
+        for (int slot = hash(key); ; slot = (slot + 1) & mask) {
+            int stored = table[slot];
+            if (stored == key) {
+                return true;
+            }
+            if (stored == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a word is in the set, case-insensitively.
+     *
+     * @param word the word to look up
+     * @return true if the word is in the set
+     */
+    public boolean contains(CharSequence word) {
+        return contains(PackedWords.pack(word));
+    }
+
+    /**
+     * Getter for the number of words in the set.
+     *
+     * @return the number of distinct words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Spreads a key over the table with a Fibonacci hash.
+     *
+     * @param key the stored key
+     * @return the home slot of the key
+     */
+    private int hash(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+}
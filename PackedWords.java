@@ -0,0 +1,70 @@
+/**
+ * Packs five-letter lowercase words into a single int, five bits per letter.
+ *
+ * The first letter is stored in the highest bits, so sorting packed words sorts them
+ * alphabetically. A packed word is never negative; -1 marks a word that cannot be packed.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class PackedWords {
+
+    /**
+     * The number of bits used for each letter.
+     */
+    public static final int LETTER_BITS = 5;
+    private static final int LETTER_MASK = (1 << LETTER_BITS) - 1;
+    private static final int LENGTH = Backend.WORD_LENGTH;
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private PackedWords() {
+    }
+
+    /**
+     * Packs a word case-insensitively.
+     *
+     * @param word the word to pack
+     * @return the packed word, or -1 if the word is not made of exactly five letters a to z
+     */
+    public static int pack(CharSequence word) {
+        if (word == null || word.length() != LENGTH) {
+            return -1;
+        }
+        int packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int letter = (word.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            packed = (packed << LETTER_BITS) | letter;
+        }
+        return packed;
+    }
+
+    /**
+     * Getter for one letter of a packed word.
+     *
+     * @param packed the packed word
+     * @param index the position of the letter
+     * @return the letter, 0 for 'a' through 25 for 'z'
+     */
+    public static int letter(int packed, int index) {
+        return (packed >>> (LETTER_BITS * (LENGTH - 1 - index))) & LETTER_MASK;
+    }
+
+    /**
+     * Converts a packed word back into a lowercase String.
+     *
+     * @param packed the packed word
+     * @return the word
+     */
+    public static String unpack(int packed) {
+        char[] word = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            word[i] = (char) ('a' + letter(packed, i));
+        }
+        return String.valueOf(word);
+    }
+}
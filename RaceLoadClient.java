@@ -0,0 +1,273 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Load client for {@link RaceServer} measuring broadcast fan-out latency.
+ *
+ * Opens many connections into one room from a single selector thread. One player at a time makes
+ * guesses; for each guess, the time from sending it until every player in the room has received
+ * its row is recorded, together with the delivery time to each individual player. The driving
+ * player changes after every full row of guesses. When a round ends, because a guess solved it or
+ * because every player has used its rows, no guess is made until NEW_ROUND has given the rows
+ * back.
+ *
+ * Usage: java RaceLoadClient [host] [port] [players] [guesses]
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class RaceLoadClient {
+
+    private static final int ROOM = 1;
+
+    private final Selector selector;
+    private final Conn[] conns;
+    private final int[] words;
+    private final Random rand = new Random(42);
+    private final long[] fanOut;
+    private final long[] delivery;
+    private int samples;
+    private int deliveries;
+    private int driver;
+    private int rows;
+    private int outOfRows;
+    private boolean roundEnding;
+    private long sentAt;
+    private int received;
+    private boolean waiting;
+
+    /**
+     * Connects the players and joins them to the room.
+     *
+     * @param address the race server
+     * @param players the number of players
+     * @param guesses the number of guesses to measure
+     * @throws IOException if a connection failed
+     */
+    private RaceLoadClient(InetSocketAddress address, int players, int guesses) throws IOException {
+        selector = Selector.open();
+        conns = new Conn[players];
+        words = WordBank.shared().packedWords();
+        fanOut = new long[guesses];
+        delivery = new long[guesses * players];
+        for (int i = 0; i < players; i++) {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.socket().setTcpNoDelay(true);
+            channel.configureBlocking(false);
+            conns[i] = new Conn(channel);
+            channel.register(selector, SelectionKey.OP_READ, conns[i]);
+            write(conns[i], RaceServer.JOIN, ROOM);
+        }
+    }
+
+    /**
+     * Runs the load test and prints the latency percentiles.
+     *
+     * @param args host, port, number of players and number of guesses, all optional
+     * @throws IOException if the server could not be reached
+     */
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 9090;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int guesses = args.length > 3 ? Integer.parseInt(args[3]) : 500;
+        RaceLoadClient client = new RaceLoadClient(new InetSocketAddress(host, port), players, guesses);
+        long start = System.nanoTime();
+        client.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d players, %d guesses, %d deliveries in %.2f s (%.0f deliveries/s)%n",
+            players, client.samples, client.deliveries, seconds, client.deliveries / seconds);
+        print("delivery", client.delivery, client.deliveries);
+        print("fan-out", client.fanOut, client.samples);
+    }
+
+    /**
+     * Drives guesses until enough have been measured.
+     *
+     * @throws IOException if a connection failed
+     */
+    private void run() throws IOException {
+        while (samples < fanOut.length) {
+            selector.select();
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                read((Conn) key.attachment());
+            }
+            if (!waiting && !roundEnding && allWelcomed()) {
+                sendGuess();
+            }
+        }
+        for (Conn conn : conns) {
+            conn.channel.close();
+        }
+        selector.close();
+    }
+
+    /**
+     * Checks whether every player has been given its id.
+     *
+     * @return true once every player has joined
+     */
+    private boolean allWelcomed() {
+        for (Conn conn : conns) {
+            if (conn.id == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes the next guess from the driving player, moving to the next player after a full row
+     * of guesses.
+     *
+     * @throws IOException if the guess could not be sent
+     */
+    private void sendGuess() throws IOException {
+        if (rows == Backend.MAX_GUESSES) {
+            driver = (driver + 1) % conns.length;
+            rows = 0;
+        }
+        rows++;
+        waiting = true;
+        received = 0;
+        sentAt = System.nanoTime();
+        write(conns[driver], RaceServer.GUESS, words[rand.nextInt(words.length)]);
+    }
+
+    /**
+     * Reads and handles every complete frame a player received.
+     *
+     * @param conn the player
+     * @throws IOException if the connection failed or was closed
+     */
+    private void read(Conn conn) throws IOException {
+        if (conn.channel.read(conn.in) < 0) {
+            throw new IOException("Server closed the connection");
+        }
+        ByteBuffer in = conn.in;
+        in.flip();
+        while (in.remaining() >= 2 && in.remaining() >= 2 + (in.getShort(in.position()) & 0xFFFF)) {
+            int next = in.position() + 2 + (in.getShort() & 0xFFFF);
+            byte type = in.get();
+            if (type == RaceServer.WELCOME) {
+                conn.id = in.getInt();
+            } else if (type == RaceServer.RESULTS) {
+                int count = in.getShort() & 0xFFFF;
+                for (int i = 0; i < count; i++) {
+                    int player = in.getInt();
+                    in.get();
+                    result(conn, player, in.get() & 0xFF);
+                }
+            } else if (type == RaceServer.NEW_ROUND && conn == conns[0]) {
+                // Every player has its rows back, the driver included.
+                roundEnding = false;
+                outOfRows = 0;
+                rows = 0;
+            } else if (type == RaceServer.ERROR) {
+                throw new IOException("Server rejected a frame, reason " + in.get());
+            }
+            in.position(next);
+        }
+        in.compact();
+    }
+
+    /**
+     * Records the delivery of one result. Only one guess is in flight at a time, so the player
+     * identifies it. The first player also notes whether the guess ended the round; it reads
+     * the result before the NEW_ROUND that follows it on the same connection.
+     *
+     * @param conn the player who received the result
+     * @param player the player who guessed
+     * @param code the feedback code of the guess
+     */
+    private void result(Conn conn, int player, int code) {
+        if (!waiting || player != conns[driver].id) {
+            return;
+        }
+        if (conn == conns[0] && (code == Backend.ALL_GREEN
+            || (rows == Backend.MAX_GUESSES && ++outOfRows == conns.length))) {
+            roundEnding = true;
+        }
+        long latency = System.nanoTime() - sentAt;
+        delivery[deliveries++] = latency;
+        if (++received == conns.length) {
+            fanOut[samples++] = latency;
+            waiting = false;
+        }
+    }
+
+    /**
+     * Sends a frame with an int payload, blocking until it is written.
+     *
+     * @param conn the player
+     * @param type the frame type
+     * @param value the payload
+     * @throws IOException if the frame could not be sent
+     */
+    private static void write(Conn conn, byte type, int value) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(7);
+        frame.putShort((short) 5).put(type).putInt(value).flip();
+        while (frame.hasRemaining()) {
+            conn.channel.write(frame);
+        }
+    }
+
+    /**
+     * Prints percentiles of a set of latencies.
+     *
+     * @param name the name of the measurement
+     * @param nanos the latencies in nanoseconds
+     * @param count the number of latencies recorded
+     */
+    private static void print(String name, long[] nanos, int count) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        System.out.printf("%-9s p50 %8.3f ms  p99 %8.3f ms  p99.9 %8.3f ms  max %8.3f ms%n", name,
+            percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+            percentile(sorted, 1));
+    }
+
+    /**
+     * Reads a percentile from sorted latencies.
+     *
+     * @param sorted the latencies in nanoseconds, ascending
+     * @param fraction the percentile as a fraction
+     * @return the latency in milliseconds
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * One player's connection.
+     */
+    private static final class Conn {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(1 << 16);
+        private int id;
+
+        /**
+         * Creates a connection.
+         *
+         * @param channel the socket
+         */
+        private Conn(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,666 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Head-to-head Jordle race server. Every player in a room races for the same target from
+ * {@link Backend#reset()} and sees every other player's row colours as they are revealed.
+ *
+ * One thread runs a java.nio Selector over non-blocking SocketChannels. Results produced while
+ * handling one batch of ready channels are collected per room and sent to every player in the
+ * room as a single RESULTS frame, so fan-out costs one frame per player per loop iteration, not
+ * one per guess.
+ *
+ * A round ends when a player solves the target or when every player in the room is out of rows.
+ * A player has {@link Backend#MAX_GUESSES} rows, which are only given back when the round of the
+ * player's last guess ends, so leaving, joining again or moving to another room does not give
+ * more. Only a round that has had a guess can end for lack of rows, so joining a room never ends
+ * its round.
+ * Rooms are removed when their last player leaves and at most {@link #MAX_ROOMS} exist at a
+ * time. A room's results buffer is allocated on its first guess and grows only as far as its
+ * busiest loop iteration needs. A player whose socket falls more than {@link #MAX_QUEUED} frames
+ * behind is disconnected rather than buffered for without limit. A malformed frame is answered
+ * with an ERROR frame, and the connection is closed once that frame is written.
+ *
+ * Every frame is a big-endian unsigned short length of the rest of the frame, a type byte and
+ * the payload:
+ * JOIN (client, int room), WELCOME (server, int player id),
+ * GUESS (client, int packed word, see {@link PackedWords}),
+ * RESULTS (server, unsigned short count, then count times int player, byte row, byte code),
+ * ERROR (server, byte reason) and NEW_ROUND (server, int packed target of the finished round).
+ *
+ * Usage: java RaceServer [port]
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class RaceServer implements Runnable {
+
+    /** Client frame joining a room. */
+    public static final byte JOIN = 1;
+    /** Server frame assigning the player id. */
+    public static final byte WELCOME = 2;
+    /** Client frame making a guess. */
+    public static final byte GUESS = 3;
+    /** Server frame with a batch of revealed rows. */
+    public static final byte RESULTS = 4;
+    /** Server frame rejecting a client frame. */
+    public static final byte ERROR = 5;
+    /** Server frame announcing a new target after a round ended. */
+    public static final byte NEW_ROUND = 6;
+
+    /** ERROR reason: the guess was not a valid Jordle guess. */
+    public static final byte INVALID_GUESS = 1;
+    /** ERROR reason: the player has not joined a room. */
+    public static final byte NOT_IN_ROOM = 2;
+    /** ERROR reason: the player has used all guesses of the round. */
+    public static final byte NO_GUESSES_LEFT = 3;
+    /** ERROR reason: the frame was malformed. */
+    public static final byte BAD_FRAME = 4;
+    /** ERROR reason: the room does not exist and no more rooms can be created. */
+    public static final byte TOO_MANY_ROOMS = 5;
+
+    /** The most rooms open at a time. */
+    public static final int MAX_ROOMS = 10_000;
+    /** The most frames queued for a player whose socket is not keeping up. */
+    public static final int MAX_QUEUED = 1024;
+
+    /** The size of one result entry in a RESULTS frame. */
+    public static final int RESULT_BYTES = 6;
+    /** The most results sent in one RESULTS frame. */
+    private static final int MAX_BATCH = 4096;
+    /** The results a room's buffer holds when it is first allocated. */
+    private static final int FIRST_BATCH = 16;
+    private static final int READ_BUFFER = 256;
+
+    private final WordBank bank;
+    private final Selector selector;
+    private final ServerSocketChannel acceptor;
+    private final Map<Integer, Room> rooms = new HashMap<>();
+    private final List<Room> dirty = new ArrayList<>();
+    private final List<Player> dropped = new ArrayList<>();
+    private int nextPlayerId = 1;
+    private volatile boolean running = true;
+
+    /**
+     * Opens a race server.
+     *
+     * @param bank the word bank targets are drawn from
+     * @param address the address to bind, port 0 picks a free port
+     * @throws IOException if the server could not be bound
+     */
+    public RaceServer(WordBank bank, InetSocketAddress address) throws IOException {
+        this.bank = bank;
+        selector = Selector.open();
+        acceptor = ServerSocketChannel.open();
+        acceptor.bind(address, 4096);
+        acceptor.configureBlocking(false);
+        acceptor.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Runs a race server on the given port, or 9090 if omitted.
+     *
+     * @param args the port to listen on
+     * @throws IOException if the server could not be started
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        RaceServer server = new RaceServer(WordBank.shared(), new InetSocketAddress(port));
+        System.out.println("Jordle race server listening on " + server.getAddress());
+        server.run();
+    }
+
+    /**
+     * Getter for the bound address.
+     *
+     * @return the address the server listens on
+     */
+    public InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) acceptor.getLocalAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stops the selector loop and closes every connection.
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Runs the selector loop until {@link #stop()} is called.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            read(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            flush((Player) key.attachment());
+                        }
+                    } catch (IOException e) {
+                        disconnect(key);
+                    }
+                }
+                // Dropping a player while broadcasting can end a round, which is sent right away.
+                do {
+                    leaveRooms();
+                    broadcastResults();
+                } while (!dropped.isEmpty());
+            }
+        } catch (IOException e) {
+            System.err.println("Race server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            closeQuietly(acceptor.keyFor(selector));
+            try {
+                selector.close();
+                acceptor.close();
+            } catch (IOException e) {
+                System.err.println("Could not close race server: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Accepts every pending connection.
+     *
+     * @throws IOException if a connection could not be configured
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = acceptor.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Player player = new Player(nextPlayerId++, channel);
+            player.key = channel.register(selector, SelectionKey.OP_READ, player);
+        }
+    }
+
+    /**
+     * Reads what a player sent and handles every complete frame.
+     *
+     * @param key the player's key
+     * @throws IOException if the connection failed or was closed
+     */
+    private void read(SelectionKey key) throws IOException {
+        Player player = (Player) key.attachment();
+        if (player.channel.read(player.in) < 0) {
+            throw new IOException("Connection closed");
+        }
+        ByteBuffer in = player.in;
+        in.flip();
+        // A player dropped or rejected while handling a frame gets no further frames handled.
+        while (!player.closed && !player.closing && in.remaining() >= 2) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (length == 0 || length > READ_BUFFER - 2) {
+                reject(player);
+                return;
+            }
+            if (in.remaining() < 2 + length) {
+                break;
+            }
+            int next = in.position() + 2 + length;
+            in.position(in.position() + 2);
+            handle(player, in.get(), in, length - 1);
+            in.position(next);
+        }
+        in.compact();
+    }
+
+    /**
+     * Handles one client frame.
+     *
+     * @param player the sender
+     * @param type the frame type
+     * @param payload the frame, positioned at the payload
+     * @param length the payload length
+     */
+    private void handle(Player player, byte type, ByteBuffer payload, int length) {
+        if (length != Integer.BYTES) {
+            reject(player);
+        } else if (type == JOIN) {
+            join(player, payload.getInt());
+        } else if (type == GUESS) {
+            guess(player, payload.getInt());
+        } else {
+            reject(player);
+        }
+    }
+
+    /**
+     * Answers a malformed frame: the player leaves its room, gets a BAD_FRAME error and nothing
+     * more is read from it. {@link #flush(Player)} closes the connection once the error is written.
+     *
+     * @param player the player
+     */
+    private void reject(Player player) {
+        player.closing = true;
+        leave(player);
+        sendError(player, BAD_FRAME);
+        if (player.key.isValid()) {
+            player.key.interestOps(SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Moves a player into a room, creating the room with a fresh target if needed. Joining the
+     * room the player is already in changes nothing but is answered like any other JOIN.
+     *
+     * @param player the player
+     * @param roomId the room to join
+     */
+    private void join(Player player, int roomId) {
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            if (rooms.size() >= MAX_ROOMS) {
+                sendError(player, TOO_MANY_ROOMS);
+                return;
+            }
+            room = new Room(roomId, new Backend(bank));
+            rooms.put(roomId, room);
+        }
+        if (player.room != room) {
+            leave(player);
+            room.players.add(player);
+            player.room = room;
+        }
+        ByteBuffer frame = frame(WELCOME, Integer.BYTES);
+        frame.putInt(player.id).flip();
+        send(player, frame);
+    }
+
+    /**
+     * Scores a player's guess and queues the result for the room's next batch.
+     *
+     * @param player the player
+     * @param word the packed guess
+     */
+    private void guess(Player player, int word) {
+        Room room = player.room;
+        if (room == null) {
+            sendError(player, NOT_IN_ROOM);
+            return;
+        }
+        if (usedRows(player) >= Backend.MAX_GUESSES) {
+            sendError(player, NO_GUESSES_LEFT);
+            return;
+        }
+        int code;
+        try {
+            code = room.backend.checkCode(word);
+        } catch (InvalidGuessException e) {
+            sendError(player, INVALID_GUESS);
+            return;
+        }
+        if (room.pending == null) {
+            room.pending = ByteBuffer.allocate(FIRST_BATCH * RESULT_BYTES);
+        } else if (room.pending.remaining() < RESULT_BYTES) {
+            if (room.pending.capacity() < MAX_BATCH * RESULT_BYTES) {
+                ByteBuffer larger = ByteBuffer.allocate(2 * room.pending.capacity());
+                room.pending.flip();
+                room.pending = larger.put(room.pending);
+            } else {
+                // The batch is full: send it now and start another. The round only ends when the
+                // room is broadcast, after every guess of this loop iteration.
+                sendResults(room);
+            }
+        }
+        room.pending.putInt(player.id).put((byte) player.rows).put((byte) code);
+        player.rows++;
+        player.spentIn = room;
+        player.spentRound = room.round;
+        room.guessed = true;
+        markDirty(room);
+        if (code == Backend.ALL_GREEN) {
+            room.roundOver = true;
+        } else if (player.rows == Backend.MAX_GUESSES) {
+            endRoundIfOutOfRows(room);
+        }
+    }
+
+    /**
+     * Getter for the rows a player has used, giving them back first if the round of the player's
+     * last guess has ended.
+     *
+     * @param player the player
+     * @return the rows used
+     */
+    private static int usedRows(Player player) {
+        if (player.spentIn != null && player.spentIn.round != player.spentRound) {
+            player.rows = 0;
+            player.spentIn = null;
+        }
+        return player.rows;
+    }
+
+    /**
+     * Ends a room's round if it has had a guess and every player in it has used all of its rows,
+     * since nobody could solve the target any more.
+     *
+     * @param room the room
+     */
+    private void endRoundIfOutOfRows(Room room) {
+        if (!room.guessed) {
+            return;
+        }
+        for (Player player : room.players) {
+            if (usedRows(player) < Backend.MAX_GUESSES) {
+                return;
+            }
+        }
+        if (!room.players.isEmpty()) {
+            room.roundOver = true;
+            markDirty(room);
+        }
+    }
+
+    /**
+     * Queues a room for the broadcast at the end of this loop iteration.
+     *
+     * @param room the room
+     */
+    private void markDirty(Room room) {
+        if (!room.dirty) {
+            room.dirty = true;
+            dirty.add(room);
+        }
+    }
+
+    /**
+     * Sends the pending results of every room that received guesses in this loop iteration.
+     */
+    private void broadcastResults() {
+        for (Room room : dirty) {
+            broadcast(room);
+            room.dirty = false;
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Sends a room's pending results, and starts a new round if the current one is over. Every
+     * player whose last guess was in the finished round gets its rows back.
+     *
+     * @param room the room
+     */
+    private void broadcast(Room room) {
+        sendResults(room);
+        if (room.roundOver) {
+            ByteBuffer frame = frame(NEW_ROUND, Integer.BYTES);
+            frame.putInt(room.backend.getPackedTarget()).flip();
+            room.backend.reset();
+            room.roundOver = false;
+            room.guessed = false;
+            room.round++;
+            sendToRoom(room, frame);
+        }
+    }
+
+    /**
+     * Sends a room's pending results to all of its players as one frame.
+     *
+     * @param room the room
+     */
+    private void sendResults(Room room) {
+        int bytes = room.pending == null ? 0 : room.pending.position();
+        if (bytes > 0) {
+            room.pending.flip();
+            ByteBuffer frame = frame(RESULTS, 2 + bytes);
+            frame.putShort((short) (bytes / RESULT_BYTES)).put(room.pending).flip();
+            room.pending.clear();
+            sendToRoom(room, frame);
+        }
+    }
+
+    /**
+     * Queues the same frame for every player of a room.
+     *
+     * @param room the room
+     * @param frame the frame, shared read-only between the players
+     */
+    private void sendToRoom(Room room, ByteBuffer frame) {
+        for (Player player : room.players) {
+            send(player, frame.duplicate());
+        }
+    }
+
+    /**
+     * Takes the players dropped in this loop iteration out of their rooms. They are not removed
+     * when dropped, since the caller may be iterating over the room.
+     */
+    private void leaveRooms() {
+        for (Player player : dropped) {
+            leave(player);
+        }
+        dropped.clear();
+    }
+
+    /**
+     * Takes a player out of its room, and removes the room if it is left empty, which ends its
+     * round. The player keeps the rows it used. If everyone left is out of rows, the round ends.
+     *
+     * @param player the player
+     */
+    private void leave(Player player) {
+        Room room = player.room;
+        if (room == null) {
+            return;
+        }
+        room.players.remove(player);
+        player.room = null;
+        if (room.players.isEmpty()) {
+            rooms.remove(room.id);
+            room.round++;
+        } else {
+            endRoundIfOutOfRows(room);
+        }
+    }
+
+    /**
+     * Sends an ERROR frame.
+     *
+     * @param player the player
+     * @param reason the reason code
+     */
+    private void sendError(Player player, byte reason) {
+        ByteBuffer frame = frame(ERROR, 1);
+        frame.put(reason).flip();
+        send(player, frame);
+    }
+
+    /**
+     * Writes a frame to a player, queueing whatever the socket does not take right away. A player
+     * already {@link #MAX_QUEUED} frames behind is dropped instead.
+     *
+     * @param player the player
+     * @param frame the frame
+     */
+    private void send(Player player, ByteBuffer frame) {
+        if (player.closed) {
+            return;
+        }
+        if (player.out.size() >= MAX_QUEUED) {
+            drop(player);
+            return;
+        }
+        player.out.add(frame);
+        if (player.out.size() == 1) {
+            try {
+                flush(player);
+            } catch (IOException e) {
+                drop(player);
+            }
+        }
+    }
+
+    /**
+     * Closes a player's connection from inside the loop. It leaves its room at the end of the
+     * loop iteration.
+     *
+     * @param player the player
+     */
+    private void drop(Player player) {
+        player.closed = true;
+        player.out.clear();
+        closeQuietly(player.key);
+        dropped.add(player);
+    }
+
+    /**
+     * Writes queued frames until the socket buffer is full, and waits for OP_WRITE if it is.
+     *
+     * @param player the player
+     * @throws IOException if the connection failed, or if it is closing and everything is written
+     */
+    private void flush(Player player) throws IOException {
+        while (!player.out.isEmpty()) {
+            ByteBuffer frame = player.out.peek();
+            player.channel.write(frame);
+            if (frame.hasRemaining()) {
+                player.key.interestOps(player.closing ? SelectionKey.OP_WRITE
+                    : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            player.out.poll();
+        }
+        if (player.closing) {
+            throw new IOException("Closed after an error");
+        }
+        if (player.key.isValid()) {
+            player.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Allocates a frame and writes its header.
+     *
+     * @param type the frame type
+     * @param payload the payload length
+     * @return the frame, positioned at the payload
+     */
+    private static ByteBuffer frame(byte type, int payload) {
+        ByteBuffer frame = ByteBuffer.allocate(3 + payload);
+        frame.putShort((short) (1 + payload)).put(type);
+        return frame;
+    }
+
+    /**
+     * Removes a disconnected player from its room and closes the connection.
+     *
+     * @param key the player's key
+     */
+    private void disconnect(SelectionKey key) {
+        Object attachment = key.attachment();
+        if (attachment instanceof Player) {
+            Player player = (Player) attachment;
+            leave(player);
+            player.closed = true;
+            player.out.clear();
+        }
+        closeQuietly(key);
+    }
+
+    /**
+     * Cancels a key and closes its channel, ignoring errors.
+     *
+     * @param key the key, or null
+     */
+    private static void closeQuietly(SelectionKey key) {
+        if (key == null) {
+            return;
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Already closed.
+        }
+    }
+
+    /**
+     * Players racing for the same target.
+     */
+    private static final class Room {
+
+        private final int id;
+        private final Backend backend;
+        private final List<Player> players = new ArrayList<>();
+        private ByteBuffer pending;
+        private boolean dirty;
+        private boolean roundOver;
+        private boolean guessed;
+        private int round;
+
+        /**
+         * Creates a room.
+         *
+         * @param id the room id
+         * @param backend the backend holding the room's target
+         */
+        private Room(int id, Backend backend) {
+            this.id = id;
+            this.backend = backend;
+        }
+    }
+
+    /**
+     * One connection.
+     */
+    private static final class Player {
+
+        private final int id;
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        private SelectionKey key;
+        private Room room;
+        private int rows;
+        private Room spentIn;
+        private int spentRound;
+        private boolean closed;
+        private boolean closing;
+
+        /**
+         * Creates a player.
+         *
+         * @param id the player id
+         * @param channel the connection
+         */
+        private Player(int id, SocketChannel channel) {
+            this.id = id;
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+import java.util.Random;
+
+/**
+ * Guesses a uniformly random word among the words that still fit the feedback so far.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class RandomConsistentStrategy implements GuessStrategy {
+
+    private final WordBank bank;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param bank the word bank the candidates index into
+     */
+    public RandomConsistentStrategy(WordBank bank) {
+        this.bank = bank;
+    }
+
+    @Override
+    public String name() {
+        return "random";
+    }
+
+    @Override
+    public int nextGuess(FeedbackHistory history, int[] candidates, Random rand) {
+        return bank.packed(candidates[rand.nextInt(candidates.length)]);
+    }
+}
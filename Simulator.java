@@ -0,0 +1,284 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless Jordle runner that plays many games with a {@link GuessStrategy} across all cores and
+ * reports throughput, win rate and the guess-count distribution.
+ *
+ * With --hard, every guess must follow the hard mode rule. A guess the strategy makes that
+ * breaks it is replaced by a random candidate, which always follows it, and the replacements
+ * are counted in the report.
+ *
+ * Usage: java Simulator [--games N] [--strategy random|frequency|entropy] [--threads N]
+ * [--seed N] [--hard]
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class Simulator {
+
+    private final WordBank bank;
+    private final GuessStrategy strategy;
+    private final boolean hard;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param bank the word bank to draw targets and guesses from
+     * @param strategy the strategy choosing every guess
+     */
+    public Simulator(WordBank bank, GuessStrategy strategy) {
+        this(bank, strategy, false);
+    }
+
+    /**
+     * Creates a simulator that may play in hard mode.
+     *
+     * @param bank the word bank to draw targets and guesses from
+     * @param strategy the strategy choosing every guess
+     * @param hard whether every guess must use the hints revealed so far
+     */
+    public Simulator(WordBank bank, GuessStrategy strategy, boolean hard) {
+        this.bank = bank;
+        this.strategy = strategy;
+        this.hard = hard;
+    }
+
+    /**
+     * Runs the simulator from the command line and prints a report.
+     *
+     * @param args the command line options
+     * @throws Exception if a worker fails
+     */
+    public static void main(String[] args) throws Exception {
+        long games = 100_000;
+        String strategyName = "frequency";
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        boolean hard = false;
+        for (int i = 0; i < args.length; i++) {
+            if ("--hard".equals(args[i])) {
+                hard = true;
+                continue;
+            }
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+            case "--games":
+                games = Long.parseLong(args[++i]);
+                break;
+            case "--strategy":
+                strategyName = args[++i];
+                break;
+            case "--threads":
+                threads = Integer.parseInt(args[++i]);
+                break;
+            case "--seed":
+                seed = Long.parseLong(args[++i]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        WordBank bank = WordBank.shared();
+        Simulator simulator = new Simulator(bank, strategy(strategyName, bank), hard);
+        Result result = simulator.run(games, threads, seed);
+        System.out.println(result.report(hard ? strategyName + " (hard mode)" : strategyName, threads));
+    }
+
+    /**
+     * Creates a strategy by its command line name.
+     *
+     * @param name the name of the strategy
+     * @param bank the word bank the strategy guesses from
+     * @return the strategy
+     */
+    static GuessStrategy strategy(String name, WordBank bank) {
+        switch (name) {
+        case "random":
+            return new RandomConsistentStrategy(bank);
+        case "frequency":
+            return new FrequencyStrategy(bank);
+        case "entropy":
+            return new EntropyStrategy(bank);
+        default:
+            throw new IllegalArgumentException("Unknown strategy " + name);
+        }
+    }
+
+    /**
+     * Plays a number of games split evenly across worker threads.
+     *
+     * @param games the total number of games to play
+     * @param threads the number of worker threads
+     * @param seed the seed the per-thread random sources are derived from
+     * @return the combined result of every game
+     * @throws Exception if a worker fails
+     */
+    public Result run(long games, int threads, long seed) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result>> parts = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                long share = games / threads + (t < games % threads ? 1 : 0);
+                Random rand = new Random(seed + t);
+                parts.add(pool.submit(() -> play(share, rand)));
+            }
+            Result total = new Result();
+            for (Future<Result> part : parts) {
+                total.add(part.get());
+            }
+            total.nanos = System.nanoTime() - start;
+            return total;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays games on the calling thread with its own Backend.
+     *
+     * @param games the number of games to play
+     * @param rand the random source of this thread
+     * @return the result of the games
+     * @throws InvalidGuessException if the strategy makes a guess the Backend rejects
+     */
+    private Result play(long games, Random rand) throws InvalidGuessException {
+        Result result = new Result();
+        Backend backend = new Backend(bank, rand);
+        FeedbackHistory history = new FeedbackHistory();
+        ConstraintIndex constraints = bank.constraints();
+        HardMode rules = hard ? new HardMode() : null;
+        for (long game = 0; game < games; game++) {
+            backend.reset();
+            history.clear();
+            if (rules != null) {
+                rules.clear();
+            }
+            int guesses = 0;
+            boolean won = false;
+            while (guesses < Backend.MAX_GUESSES && !won) {
+                int[] candidates = constraints.candidates(history);
+                int guess = strategy.nextGuess(history, candidates, rand);
+                if (rules != null && !rules.allows(guess)) {
+                    guess = bank.packed(candidates[rand.nextInt(candidates.length)]);
+                    result.replaced++;
+                }
+                int code = backend.checkCode(guess);
+                history.add(guess, code);
+                if (rules != null) {
+                    rules.add(guess, code);
+                }
+                guesses++;
+                won = code == Backend.ALL_GREEN;
+            }
+            result.checks += guesses;
+            result.distribution[won ? guesses - 1 : Backend.MAX_GUESSES]++;
+        }
+        return result;
+    }
+
+    /**
+     * Counts gathered over a batch of simulated games.
+     */
+    public static final class Result {
+
+        private final long[] distribution = new long[Backend.MAX_GUESSES + 1];
+        private long checks;
+        private long replaced;
+        private long nanos;
+
+        /**
+         * Adds the counts of another batch to this one.
+         *
+         * @param other the other batch
+         */
+        private void add(Result other) {
+            for (int i = 0; i < distribution.length; i++) {
+                distribution[i] += other.distribution[i];
+            }
+            checks += other.checks;
+            replaced += other.replaced;
+        }
+
+        /**
+         * Getter for the number of games played.
+         *
+         * @return the number of games
+         */
+        public long games() {
+            long games = 0;
+            for (long count : distribution) {
+                games += count;
+            }
+            return games;
+        }
+
+        /**
+         * Getter for the number of games won in a given number of guesses.
+         *
+         * @param guesses the number of guesses, from 1 to {@link Backend#MAX_GUESSES}
+         * @return the number of games won with exactly that many guesses
+         */
+        public long wonIn(int guesses) {
+            return distribution[guesses - 1];
+        }
+
+        /**
+         * Getter for the number of games lost.
+         *
+         * @return the number of games lost
+         */
+        public long lost() {
+            return distribution[Backend.MAX_GUESSES];
+        }
+
+        /**
+         * Getter for the number of guesses replaced because they broke hard mode.
+         *
+         * @return the number of replaced guesses, 0 outside hard mode
+         */
+        public long replaced() {
+            return replaced;
+        }
+
+        /**
+         * Formats the result as a human-readable report.
+         *
+         * @param strategy the name of the strategy that was simulated
+         * @param threads the number of worker threads used
+         * @return the report
+         */
+        public String report(String strategy, int threads) {
+            long games = games();
+            double seconds = nanos / 1e9;
+            long won = games - lost();
+            long wonGuesses = 0;
+            for (int g = 1; g <= Backend.MAX_GUESSES; g++) {
+                wonGuesses += g * wonIn(g);
+            }
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Strategy %s, %d games on %d threads in %.2f s%n",
+                strategy, games, threads, seconds));
+            report.append(String.format("Games/s:  %.0f%n", games / seconds));
+            report.append(String.format("Checks/s: %.0f%n", checks / seconds));
+            report.append(String.format("Win rate: %.2f%%%n", 100.0 * won / Math.max(1, games)));
+            if (replaced > 0) {
+                report.append(String.format("Hard mode replacements: %d%n", replaced));
+            }
+            report.append(String.format("Average guesses when won: %.3f%n",
+                (double) wonGuesses / Math.max(1, won)));
+            for (int g = 1; g <= Backend.MAX_GUESSES; g++) {
+                report.append(String.format("  %d: %d%n", g, wonIn(g)));
+            }
+            report.append(String.format("  X: %d", lost()));
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+import javafx.css.PseudoClass;
+import javafx.scene.control.Label;
+
+/**
+ * One letter tile of a Jordle board: its letter, its feedback once revealed, and the Label that
+ * shows it. The tile is the source of truth and keeps the Label in step, switching the
+ * pseudo-classes of jordle.css rather than setting styles.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class Tile {
+
+    /** The letter of an empty tile. */
+    public static final char NO_LETTER = 0;
+    /** The result of a tile that has not been revealed. */
+    public static final char HIDDEN = 0;
+
+    private static final PseudoClass FILLED = PseudoClass.getPseudoClass("filled");
+    private static final PseudoClass GREEN = PseudoClass.getPseudoClass("green");
+    private static final PseudoClass YELLOW = PseudoClass.getPseudoClass("yellow");
+    private static final PseudoClass GREY = PseudoClass.getPseudoClass("grey");
+
+    private final Label view = new Label();
+    private char letter = NO_LETTER;
+    private char result = HIDDEN;
+
+    /**
+     * Creates an empty tile.
+     */
+    public Tile() {
+        view.getStyleClass().add("tile");
+    }
+
+    /**
+     * Getter for the Label showing the tile.
+     *
+     * @return the view of the tile
+     */
+    public Label getView() {
+        return view;
+    }
+
+    /**
+     * Getter for the letter of the tile.
+     *
+     * @return the lowercase letter, or {@link #NO_LETTER} if the tile is empty
+     */
+    public char getLetter() {
+        return letter;
+    }
+
+    /**
+     * Getter for the feedback of the tile.
+     *
+     * @return 'g', 'y' or 'i' as in {@link Backend#check(String)}, or {@link #HIDDEN}
+     */
+    public char getResult() {
+        return result;
+    }
+
+    /**
+     * Puts a letter on the tile.
+     *
+     * @param letter the lowercase letter
+     */
+    public void setLetter(char letter) {
+        this.letter = letter;
+        view.setText(String.valueOf(Character.toUpperCase(letter)));
+        view.pseudoClassStateChanged(FILLED, true);
+    }
+
+    /**
+     * Removes the letter from the tile.
+     */
+    public void clearLetter() {
+        letter = NO_LETTER;
+        view.setText("");
+        view.pseudoClassStateChanged(FILLED, false);
+    }
+
+    /**
+     * Shows the feedback for the tile's letter.
+     *
+     * @param result 'g', 'y' or 'i' as in {@link Backend#check(String)}
+     */
+    public void reveal(char result) {
+        this.result = result;
+        view.pseudoClassStateChanged(GREEN, result == 'g');
+        view.pseudoClassStateChanged(YELLOW, result == 'y');
+        view.pseudoClassStateChanged(GREY, result == 'i');
+    }
+
+    /**
+     * Returns the tile to empty and hidden.
+     */
+    public void clear() {
+        if (letter != NO_LETTER) {
+            clearLetter();
+        }
+        if (result != HIDDEN) {
+            reveal(HIDDEN);
+        }
+    }
+}
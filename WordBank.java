@@ -0,0 +1,345 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Immutable, process-wide bank of Jordle target words read from words.txt.
+ *
+ * Words are held as a sorted array of packed ints (see {@link PackedWords}) rather than Strings,
+ * and are only turned back into Strings at the UI boundary.
+ *
+ * The bank is loaded lazily on first use and shared by every Backend, so starting a new game
+ * does not touch the file system. Call {@link #reload()} to pick up changes to words.txt.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class WordBank {
+
+    private static final String WORDS_FILE = "words.txt";
+    private static final String GUESSES_FILE = "guesses.txt";
+    private static final long MAP_WINDOW = 1L << 30;
+    private static final int CHUNK_BYTES = 1 << 16;
+    private static volatile WordBank shared;
+
+    private final int[] words;
+    private final Path guessesFile;
+    private volatile ConstraintIndex constraints;
+    private final long loadNanos;
+    private String fingerprint;
+    private PackedWordSet allowedGuesses;
+
+    /**
+     * Creates a word bank over an already filtered array of words.
+     *
+     * @param words the sorted, distinct packed words of the bank
+     * @param guessesFile the guess list of the bank, which need not exist
+     * @param loadNanos how long reading the words took, in nanoseconds
+     */
+    private WordBank(int[] words, Path guessesFile, long loadNanos) {
+        this.loadNanos = loadNanos;
+        this.words = words;
+        this.guessesFile = guessesFile;
+    }
+
+    /**
+     * Returns the shared word bank, loading words.txt the first time it is requested.
+     *
+     * @return the shared word bank
+     */
+    public static WordBank shared() {
+        WordBank bank = shared;
+        if (bank == null) {
+            synchronized (WordBank.class) {
+                bank = shared;
+                if (bank == null) {
+                    bank = load(WORDS_FILE);
+                    shared = bank;
+                }
+            }
+        }
+        return bank;
+    }
+
+    /**
+     * Re-reads words.txt and replaces the shared word bank. Backends created before the reload
+     * keep using the bank they were created with.
+     *
+     * @return the newly loaded word bank
+     */
+    public static WordBank reload() {
+        WordBank bank = load(WORDS_FILE);
+        synchronized (WordBank.class) {
+            shared = bank;
+        }
+        return bank;
+    }
+
+    /**
+     * Reads in the five-letter words from a word file.
+     *
+     * The file is memory-mapped and scanned byte by byte, splitting lines on '\n' and '\r'.
+     * Each letter is packed as soon as it is read, so no String is created per line. Lines that
+     * are not made of exactly five letters a to z, in any case, are skipped. The guess list of
+     * the bank is the guesses.txt next to the word file.
+     *
+     * @param fileName the word file to read
+     * @return a word bank of the words, or a bank only containing "adieu" if the file could not
+     *         be read.
+     */
+    static WordBank load(String fileName) {
+        long start = System.nanoTime();
+        int[] words;
+        try {
+            words = readPacked(fileName);
+        } catch (IOException ioe) {
+            System.out.println("Error in reading " + fileName + ": " + ioe.getMessage());
+            words = new int[] {PackedWords.pack("adieu")};
+        }
+        Path guesses = Paths.get(fileName).resolveSibling(GUESSES_FILE);
+        return new WordBank(words, guesses, System.nanoTime() - start);
+    }
+
+    /**
+     * Reads the five-letter words of a word file into a sorted array of distinct packed words.
+     *
+     * @param fileName the word file to read
+     * @return the sorted packed words
+     * @throws IOException if the file could not be read
+     */
+    static int[] readPacked(String fileName) throws IOException {
+        // One bit per possible packed word: sorts and drops duplicates in a single pass.
+        long[] seen = new long[1 << (PackedWords.LETTER_BITS * Backend.WORD_LENGTH - 6)];
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] chunk = new byte[CHUNK_BYTES];
+            int word = 0;
+            int length = 0;
+            for (long position = 0; position < size; position += MAP_WINDOW) {
+                long window = Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, window);
+                while (buffer.hasRemaining()) {
+                    int read = Math.min(chunk.length, buffer.remaining());
+                    buffer.get(chunk, 0, read);
+                    for (int i = 0; i < read; i++) {
+                        int b = chunk[i];
+                        if (b == '\n' || b == '\r') {
+                            if (length == Backend.WORD_LENGTH) {
+                                seen[word >>> 6] |= 1L << word;
+                            }
+                            word = 0;
+                            length = 0;
+                        } else if (length >= 0) {
+                            int letter = (b | 0x20) - 'a';
+                            if (letter < 0 || letter >= 26 || length == Backend.WORD_LENGTH) {
+                                length = -1;
+                            } else {
+                                word = (word << PackedWords.LETTER_BITS) | letter;
+                                length++;
+                            }
+                        }
+                    }
+                }
+            }
+            if (length == Backend.WORD_LENGTH) {
+                seen[word >>> 6] |= 1L << word;
+            }
+        }
+        return toSortedArray(seen);
+    }
+
+    /**
+     * Lists the packed words whose bits are set, in ascending order.
+     *
+     * @param seen one bit per possible packed word
+     * @return the sorted packed words
+     */
+    private static int[] toSortedArray(long[] seen) {
+        int count = 0;
+        for (long bits : seen) {
+            count += Long.bitCount(bits);
+        }
+        int[] words = new int[count];
+        int n = 0;
+        for (int i = 0; i < seen.length; i++) {
+            long bits = seen[i];
+            while (bits != 0) {
+                words[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Loads a word file and prints how many words it holds, how long loading took and how much
+     * heap the bank keeps, without and then with its constraint index.
+     *
+     * @param args the word file to load, words.txt if omitted
+     */
+    public static void main(String[] args) {
+        long before = usedHeap();
+        WordBank bank = load(args.length > 0 ? args[0] : WORDS_FILE);
+        long loaded = usedHeap();
+        System.out.printf("Loaded %d words in %.1f ms, %.1f bytes per word%n", bank.size(),
+            bank.loadNanos() / 1e6, (loaded - before) / (double) Math.max(1, bank.size()));
+        long start = System.nanoTime();
+        bank.constraints();
+        long indexNanos = System.nanoTime() - start;
+        System.out.printf("Built the constraint index in %.1f ms, %.1f bytes per word in all%n",
+            indexNanos / 1e6, (usedHeap() - before) / (double) Math.max(1, bank.size()));
+    }
+
+    /**
+     * Getter for the heap in use after a full collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Getter for the number of words in the bank.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Getter for a word of the bank as a String. Prefer {@link #packed(int)} outside the UI.
+     *
+     * @param index the index of the word
+     * @return the word at the given index
+     */
+    public String word(int index) {
+        return PackedWords.unpack(words[index]);
+    }
+
+    /**
+     * Getter for a packed word of the bank.
+     *
+     * @param index the index of the word
+     * @return the packed word at the given index, see {@link PackedWords}
+     */
+    public int packed(int index) {
+        return words[index];
+    }
+
+    /**
+     * Getter for all packed words of the bank, sorted in ascending order. The returned array is
+     * shared and must not be modified.
+     *
+     * @return the packed words
+     */
+    int[] packedWords() {
+        return words;
+    }
+
+    /**
+     * Finds the index of a packed word with a binary search.
+     *
+     * @param packed the packed word to find
+     * @return the index of the word, or a negative number if it is not in the bank
+     */
+    public int indexOf(int packed) {
+        return packed < 0 ? -1 : Arrays.binarySearch(words, packed);
+    }
+
+    /**
+     * Getter for how long reading the words of the bank took.
+     *
+     * @return the load time in nanoseconds
+     */
+    public long loadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Getter for the set of words accepted as guesses: every word of the bank plus the words of
+     * the guesses.txt next to the word file. The game ships one; without it, or if it cannot be
+     * read, only the words of the bank are accepted. The set is loaded on first use.
+     *
+     * @return the allowed guesses
+     */
+    public synchronized PackedWordSet allowedGuesses() {
+        if (allowedGuesses == null) {
+            int[] extra = new int[0];
+            if (Files.isRegularFile(guessesFile)) {
+                try {
+                    extra = readPacked(guessesFile.toString());
+                } catch (IOException ioe) {
+                    System.out.println("Error in reading " + guessesFile + ": " + ioe.getMessage());
+                }
+            }
+            int[] all = Arrays.copyOf(words, words.length + extra.length);
+            System.arraycopy(extra, 0, all, words.length, extra.length);
+            allowedGuesses = new PackedWordSet(all);
+        }
+        return allowedGuesses;
+    }
+
+    /**
+     * Getter for the bitset index used to filter the words of the bank by feedback. The index
+     * takes about 32 bytes per word, several times the words themselves, so it is only built on
+     * first use by the hints, the simulator or the strategies.
+     *
+     * @return the constraint index of the bank
+     */
+    public ConstraintIndex constraints() {
+        ConstraintIndex index = constraints;
+        if (index == null) {
+            synchronized (this) {
+                index = constraints;
+                if (index == null) {
+                    index = new ConstraintIndex(words, Backend.WORD_LENGTH);
+                    constraints = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Getter for a hex SHA-256 fingerprint of the words in the bank, used to key caches derived
+     * from words.txt.
+     *
+     * @return the fingerprint of the bank
+     */
+    public synchronized String fingerprint() {
+        if (fingerprint == null) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] bytes = new byte[4];
+                for (int word : words) {
+                    bytes[0] = (byte) (word >>> 24);
+                    bytes[1] = (byte) (word >>> 16);
+                    bytes[2] = (byte) (word >>> 8);
+                    bytes[3] = (byte) word;
+                    digest.update(bytes);
+                }
+                StringBuilder hex = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    hex.append(String.format("%02x", b));
+                }
+                fingerprint = hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+        return fingerprint;
+    }
+}
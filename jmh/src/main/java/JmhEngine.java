@@ -0,0 +1,99 @@
+import jordle.bench.Engine;
+import jordle.bench.Game;
+
+import java.util.Random;
+
+/**
+ * Implements the benchmarks' view of the engine over the default-package engine classes.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public final class JmhEngine implements Engine {
+
+    @Override
+    public Game game(String wordFile, String target) {
+        Backend backend = new Backend(WordBank.load(wordFile), new Random(1));
+        while (!backend.getTarget().equals(target)) {
+            backend.reset();
+        }
+        return new BackendGame(backend);
+    }
+
+    @Override
+    public Game sharedGame() {
+        return new BackendGame(new Backend(WordBank.shared()));
+    }
+
+    @Override
+    public Game adversarialGame(String wordFile) {
+        return new BackendGame(new AdversarialBackend(WordBank.load(wordFile)));
+    }
+
+    @Override
+    public int pack(String word) {
+        return PackedWords.pack(word);
+    }
+
+    @Override
+    public int feedbackCode(int guess, int target) {
+        return Backend.feedbackCode(guess, target);
+    }
+
+    @Override
+    public void bulkScore(int guess, int[] targets, byte[] codes) {
+        BulkScorer.score(guess, targets, codes);
+    }
+
+    @Override
+    public int[] load(String wordFile) {
+        return WordBank.load(wordFile).packedWords();
+    }
+
+    /**
+     * A Backend behind the {@link Game} interface.
+     */
+    private static final class BackendGame implements Game {
+
+        private final Backend backend;
+
+        /**
+         * Wraps a backend.
+         *
+         * @param backend the backend
+         */
+        private BackendGame(Backend backend) {
+            this.backend = backend;
+        }
+
+        @Override
+        public String check(String guess) throws InvalidGuessException {
+            return backend.check(guess);
+        }
+
+        @Override
+        public int checkCode(String guess) throws InvalidGuessException {
+            return backend.checkCode(guess);
+        }
+
+        @Override
+        public int checkCode(int guess) throws InvalidGuessException {
+            return backend.checkCode(guess);
+        }
+
+        @Override
+        public void reset() {
+            backend.reset();
+        }
+
+        @Override
+        public int getPackedTarget() {
+            return backend.getPackedTarget();
+        }
+
+        @Override
+        public int packed(int index) {
+            return backend.getWordBank().packed(index);
+        }
+    }
+}
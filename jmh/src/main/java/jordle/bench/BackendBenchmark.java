@@ -0,0 +1,358 @@
+package jordle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmarks for the Backend hot paths: scoring a guess as a String, as a packed code and
+ * against many targets at once, starting a game, and loading word files.
+ *
+ * Inputs are read from @State fields, never from constants the JIT could fold, and results are
+ * returned or passed to a Blackhole. Run with the gc profiler to see bytes allocated per
+ * operation:
+ *
+ *     java -jar jmh/target/benchmarks.jar -prof gc
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackendBenchmark {
+
+    private static final String TARGET = "geese";
+
+    /**
+     * A game whose target is "geese", over a word list that also holds the guesses, so they
+     * pass validation whether or not a guess list is installed.
+     */
+    @State(Scope.Thread)
+    public static class Guess {
+
+        /** The guess: all green, all missing, or with repeated letters. */
+        @Param({"geese", "blond", "eerie"})
+        public String word;
+
+        Game game;
+        Engine engine;
+        int packedGuess;
+        int packedTarget;
+        private Path dir;
+
+        /**
+         * Writes the word list and starts the game.
+         *
+         * @throws Exception if the engine cannot be loaded or the list written
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            engine = Engine.load();
+            dir = Files.createTempDirectory("jordle-bench");
+            game = engine.game(write(dir, "target.txt", "geese\nblond\neerie\n"), TARGET);
+            packedGuess = engine.pack(word);
+            packedTarget = game.getPackedTarget();
+        }
+
+        /**
+         * Deletes the word list.
+         *
+         * @throws IOException if it cannot be deleted
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(dir);
+        }
+    }
+
+    /**
+     * A game over the shared words.txt word bank.
+     */
+    @State(Scope.Thread)
+    public static class Shared {
+
+        Game game;
+
+        /**
+         * Starts the game.
+         *
+         * @throws Exception if the engine cannot be loaded
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            game = Engine.load().sharedGame();
+        }
+    }
+
+    /**
+     * One guess against 2,315 random targets, the size of the original answer list.
+     */
+    @State(Scope.Thread)
+    public static class Targets {
+
+        Engine engine;
+        int guess;
+        int[] targets;
+        byte[] codes;
+        private Path dir;
+
+        /**
+         * Writes and loads the targets.
+         *
+         * @throws Exception if the engine cannot be loaded or the targets written
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            engine = Engine.load();
+            dir = Files.createTempDirectory("jordle-bench");
+            targets = engine.load(write(dir, "targets.txt", randomWords(2_315, 3)));
+            codes = new byte[targets.length];
+            guess = engine.pack("eerie");
+        }
+
+        /**
+         * Deletes the targets.
+         *
+         * @throws IOException if they cannot be deleted
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(dir);
+        }
+    }
+
+    /**
+     * An adversarial game over 100,000 random words, opened with the first of them.
+     */
+    @State(Scope.Thread)
+    public static class Adversarial {
+
+        Game game;
+        int opener;
+        private Path dir;
+
+        /**
+         * Writes the words and starts the game.
+         *
+         * @throws Exception if the engine cannot be loaded or the words written
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            dir = Files.createTempDirectory("jordle-bench");
+            game = Engine.load().adversarialGame(write(dir, "adversarial.txt", randomWords(100_000, 4)));
+            opener = game.packed(0);
+        }
+
+        /**
+         * Deletes the words.
+         *
+         * @throws IOException if they cannot be deleted
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(dir);
+        }
+    }
+
+    /**
+     * A word file of random words to load.
+     */
+    @State(Scope.Thread)
+    public static class WordFile {
+
+        /** The number of words in the file. */
+        @Param({"2315", "1000000"})
+        public int words;
+
+        Engine engine;
+        String file;
+        private Path dir;
+
+        /**
+         * Writes the file.
+         *
+         * @throws Exception if the engine cannot be loaded or the file written
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            engine = Engine.load();
+            dir = Files.createTempDirectory("jordle-bench");
+            file = write(dir, "words.txt", randomWords(words, words));
+        }
+
+        /**
+         * Deletes the file.
+         *
+         * @throws IOException if it cannot be deleted
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(dir);
+        }
+    }
+
+    /**
+     * Backend.check: feedback as a String.
+     *
+     * @param state the game and guess
+     * @return the feedback
+     * @throws Exception if the guess is rejected
+     */
+    @Benchmark
+    public String check(Guess state) throws Exception {
+        return state.game.check(state.word);
+    }
+
+    /**
+     * Backend.checkCode(String): validation, packing and scoring.
+     *
+     * @param state the game and guess
+     * @return the feedback code
+     * @throws Exception if the guess is rejected
+     */
+    @Benchmark
+    public int checkCode(Guess state) throws Exception {
+        return state.game.checkCode(state.word);
+    }
+
+    /**
+     * Backend.feedbackCode on packed words: scoring alone.
+     *
+     * @param state the game and guess
+     * @return the feedback code
+     */
+    @Benchmark
+    public int feedbackCode(Guess state) {
+        return state.engine.feedbackCode(state.packedGuess, state.packedTarget);
+    }
+
+    /**
+     * Backend.reset: picking the next target.
+     *
+     * @param state the game
+     * @return the new target
+     */
+    @Benchmark
+    public int reset(Shared state) {
+        state.game.reset();
+        return state.game.getPackedTarget();
+    }
+
+    /**
+     * One guess against every target, one feedbackCode call each.
+     *
+     * @param state the guess and targets
+     * @param blackhole consumes every code
+     */
+    @Benchmark
+    public void loopFeedbackCode(Targets state, Blackhole blackhole) {
+        for (int target : state.targets) {
+            blackhole.consume(state.engine.feedbackCode(state.guess, target));
+        }
+    }
+
+    /**
+     * One guess against every target with the bulk scorer.
+     *
+     * @param state the guess and targets
+     * @return the codes
+     */
+    @Benchmark
+    public byte[] bulkScore(Targets state) {
+        state.engine.bulkScore(state.guess, state.targets, state.codes);
+        return state.codes;
+    }
+
+    /**
+     * The first guess of an adversarial game, which partitions every word.
+     *
+     * @param state the game and opener
+     * @return the feedback code
+     * @throws Exception if the guess is rejected
+     */
+    @Benchmark
+    public int adversarialGuess(Adversarial state) throws Exception {
+        state.game.reset();
+        return state.game.checkCode(state.opener);
+    }
+
+    /**
+     * Loading a word file into a word bank.
+     *
+     * @param state the file
+     * @return the packed words
+     */
+    @Benchmark
+    public int[] load(WordFile state) {
+        return state.engine.load(state.file);
+    }
+
+    /**
+     * Writes a word file.
+     *
+     * @param dir the directory
+     * @param name the file name
+     * @param content the lines of the file
+     * @return the path of the file
+     * @throws IOException if the file could not be written
+     */
+    static String write(Path dir, String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file.toString();
+    }
+
+    /**
+     * Deletes a scratch directory and the files in it.
+     *
+     * @param dir the directory
+     * @throws IOException if it cannot be deleted
+     */
+    static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> file.toFile().delete());
+        }
+        Files.delete(dir);
+    }
+
+    /**
+     * Generates random lowercase five-letter words, one per line.
+     *
+     * @param count the number of words
+     * @param seed the random seed
+     * @return the words separated by newlines
+     */
+    static String randomWords(int count, long seed) {
+        Random rand = new Random(seed);
+        StringBuilder words = new StringBuilder(count * 6);
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < 5; j++) {
+                words.append((char) ('a' + rand.nextInt(26)));
+            }
+            words.append('\n');
+        }
+        return words.toString();
+    }
+}
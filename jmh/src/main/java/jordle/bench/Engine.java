@@ -0,0 +1,83 @@
+package jordle.bench;
+
+/**
+ * The Jordle engine as the benchmarks see it.
+ *
+ * The engine classes live in the default package, which code in a named package cannot refer
+ * to, while JMH only accepts benchmarks in a named package. JmhEngine, in the default package,
+ * implements this interface by calling the engine directly; every call site sees a single
+ * implementation, so the JIT inlines through it.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public interface Engine {
+
+    /**
+     * Creates the engine adapter.
+     *
+     * @return the engine
+     * @throws ReflectiveOperationException if JmhEngine is missing from the class path
+     */
+    static Engine load() throws ReflectiveOperationException {
+        return (Engine) Class.forName("JmhEngine").getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Creates a game over a word file whose target is a given word of the file.
+     *
+     * @param wordFile the word file
+     * @param target the target, which must be in the file
+     * @return the game
+     */
+    Game game(String wordFile, String target);
+
+    /**
+     * Creates a game over the shared words.txt word bank.
+     *
+     * @return the game
+     */
+    Game sharedGame();
+
+    /**
+     * Creates an adversarial game over a word file.
+     *
+     * @param wordFile the word file
+     * @return the game
+     */
+    Game adversarialGame(String wordFile);
+
+    /**
+     * Packs a word, see PackedWords.pack.
+     *
+     * @param word the word
+     * @return the packed word
+     */
+    int pack(String word);
+
+    /**
+     * Scores a packed guess against a packed target, see Backend.feedbackCode.
+     *
+     * @param guess the packed guess
+     * @param target the packed target
+     * @return the packed feedback code
+     */
+    int feedbackCode(int guess, int target);
+
+    /**
+     * Scores a packed guess against many targets, see BulkScorer.score.
+     *
+     * @param guess the packed guess
+     * @param targets the packed targets
+     * @param codes receives one feedback code per target
+     */
+    void bulkScore(int guess, int[] targets, byte[] codes);
+
+    /**
+     * Loads a word file into a word bank.
+     *
+     * @param wordFile the word file
+     * @return the sorted packed words of the bank
+     */
+    int[] load(String wordFile);
+}
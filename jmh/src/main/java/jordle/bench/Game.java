@@ -0,0 +1,57 @@
+package jordle.bench;
+
+/**
+ * One Backend as the benchmarks see it; see {@link Engine}.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+public interface Game {
+
+    /**
+     * See Backend.check.
+     *
+     * @param guess the guess
+     * @return the feedback string
+     * @throws Exception if the guess is not valid
+     */
+    String check(String guess) throws Exception;
+
+    /**
+     * See Backend.checkCode(String).
+     *
+     * @param guess the guess
+     * @return the packed feedback code
+     * @throws Exception if the guess is not valid
+     */
+    int checkCode(String guess) throws Exception;
+
+    /**
+     * See Backend.checkCode(int).
+     *
+     * @param guess the packed guess
+     * @return the packed feedback code
+     * @throws Exception if the guess is not valid
+     */
+    int checkCode(int guess) throws Exception;
+
+    /**
+     * See Backend.reset.
+     */
+    void reset();
+
+    /**
+     * See Backend.getPackedTarget.
+     *
+     * @return the packed target
+     */
+    int getPackedTarget();
+
+    /**
+     * Getter for a word of the game's word bank.
+     *
+     * @param index the index of the word
+     * @return the packed word
+     */
+    int packed(int index);
+}
@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link Backend} only accepts guesses from the allowed guesses of its word bank:
+ * the bank's words plus the guesses.txt next to its word file, or the bank's words alone when
+ * there is no guesses.txt.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+class BackendTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void acceptsWordsOfTheBankAndTheGuessList() throws Exception {
+        Backend backend = backend("crane\n", "slate\n");
+        assertEquals("ggggg", backend.check("crane"));
+        assertEquals("ggggg", backend.check("CRANE"));
+        assertEquals("iigig", backend.check("slate"));
+        assertEquals(Backend.ALL_GREEN, backend.checkCode(PackedWords.pack("crane")));
+    }
+
+    @Test
+    void rejectsWordsMissingFromTheGuessList() throws Exception {
+        Backend backend = backend("crane\n", "slate\n");
+        assertThrows(InvalidGuessException.class, () -> backend.check("zzzzz"));
+        assertThrows(InvalidGuessException.class, () -> backend.checkCode("moist"));
+        assertThrows(InvalidGuessException.class,
+            () -> backend.checkCode(PackedWords.pack("zzzzz")));
+    }
+
+    @Test
+    void acceptsOnlyTheBankWithoutAGuessList() throws Exception {
+        Backend backend = backend("crane\ntrace\n", null);
+        String other = backend.getTarget().equals("crane") ? "trace" : "crane";
+        assertEquals("ggggg", backend.check(backend.getTarget()));
+        assertEquals(other.equals("trace") ? "iggyg" : "yggig", backend.check(other));
+        assertThrows(InvalidGuessException.class, () -> backend.check("slate"));
+        assertThrows(InvalidGuessException.class, () -> backend.check("zzzzz"));
+    }
+
+    @Test
+    void rejectsGuessesThatAreNotFiveLetters() throws Exception {
+        Backend backend = backend("crane\n", "slate\n");
+        assertThrows(InvalidGuessException.class, () -> backend.check(null));
+        assertThrows(InvalidGuessException.class, () -> backend.check("cran"));
+        assertThrows(InvalidGuessException.class, () -> backend.check("cranes"));
+        assertThrows(InvalidGuessException.class, () -> backend.check("cr4ne"));
+        assertThrows(InvalidGuessException.class, () -> backend.checkCode(-1));
+    }
+
+    /**
+     * Creates a backend over a word file in the temporary directory.
+     *
+     * @param words the contents of words.txt
+     * @param guesses the contents of guesses.txt, or null for none
+     * @return the backend
+     * @throws Exception if the files could not be written
+     */
+    private Backend backend(String words, String guesses) throws Exception {
+        Path wordFile = dir.resolve("words.txt");
+        Files.writeString(wordFile, words);
+        if (guesses != null) {
+            Files.writeString(dir.resolve("guesses.txt"), guesses);
+        }
+        return new Backend(WordBank.load(wordFile.toString()), new Random(1));
+    }
+}
@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link BulkScorer} agrees with the scalar {@link Backend#feedbackCode(int, int)}.
+ *
+ * Every pair of words over "abc" and over "xyz" is compared, which covers every pattern of
+ * repeated letters, every word against itself, and the highest letter codes. Then random guesses
+ * are scored against batches of random targets drawn from a few neighbouring letters, so repeats
+ * stay common, with one target in eight equal to the guess.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+class BulkScorerTest {
+
+    private static final int RANDOM_PAIRS = 1_000_000;
+    private static final int BATCH = 1000;
+
+    @Test
+    void matchesBackendOnEveryWordOfSmallAlphabets() {
+        for (String alphabet : new String[] {"abc", "xyz"}) {
+            int[] words = allWords(alphabet);
+            for (int guess : words) {
+                check(guess, words);
+            }
+        }
+    }
+
+    @Test
+    void matchesBackendOnRandomWordsWithRepeatedLetters() {
+        Random rand = new Random(1331);
+        int[] targets = new int[BATCH];
+        for (int done = 0; done < RANDOM_PAIRS; done += targets.length) {
+            int letters = 2 + rand.nextInt(25);
+            int first = rand.nextInt(27 - letters);
+            int guess = randomWord(rand, first, letters);
+            for (int t = 0; t < targets.length; t++) {
+                targets[t] = rand.nextInt(8) == 0 ? guess : randomWord(rand, first, letters);
+            }
+            check(guess, targets);
+        }
+    }
+
+    @Test
+    void scoresIntoASliceOfALargerArray() {
+        int[] words = allWords("abc");
+        byte[] out = new byte[words.length + 7];
+        BulkScorer.score(words[5], words, 2, words.length, out, 7);
+        for (int t = 2; t < words.length; t++) {
+            assertEquals(Backend.feedbackCode(words[5], words[t]), out[7 + t - 2] & 0xFF);
+        }
+    }
+
+    /**
+     * Scores a guess against targets with both entry points and compares every code with
+     * {@link Backend}.
+     *
+     * @param guess the packed guess
+     * @param targets the packed targets
+     */
+    private static void check(int guess, int[] targets) {
+        byte[] all = new byte[targets.length];
+        byte[] range = new byte[targets.length - 1];
+        BulkScorer.score(guess, targets, all);
+        BulkScorer.score(guess, targets, 1, targets.length, range);
+        for (int t = 0; t < targets.length; t++) {
+            int expected = Backend.feedbackCode(guess, targets[t]);
+            String pair = PackedWords.unpack(guess) + " against " + PackedWords.unpack(targets[t]);
+            assertEquals(Backend.decode(expected), Backend.decode(all[t] & 0xFF), pair);
+            if (t > 0) {
+                assertEquals(Backend.decode(expected), Backend.decode(range[t - 1] & 0xFF), pair);
+            }
+            if (guess == targets[t]) {
+                assertEquals(Backend.ALL_GREEN, all[t] & 0xFF, pair);
+            }
+        }
+    }
+
+    /**
+     * Packs every five-letter word over an alphabet.
+     *
+     * @param alphabet the letters to use
+     * @return the packed words
+     */
+    private static int[] allWords(String alphabet) {
+        int size = alphabet.length();
+        int count = (int) Math.pow(size, Backend.WORD_LENGTH);
+        int[] words = new int[count];
+        char[] word = new char[Backend.WORD_LENGTH];
+        for (int w = 0; w < count; w++) {
+            for (int i = 0, rest = w; i < Backend.WORD_LENGTH; i++, rest /= size) {
+                word[i] = alphabet.charAt(rest % size);
+            }
+            words[w] = PackedWords.pack(new String(word));
+        }
+        return words;
+    }
+
+    /**
+     * Packs a random word over a run of neighbouring letters.
+     *
+     * @param rand the source of randomness
+     * @param first the first letter of the run, 0 for 'a'
+     * @param letters the number of letters in the run
+     * @return the packed word
+     */
+    private static int randomWord(Random rand, int first, int letters) {
+        char[] word = new char[Backend.WORD_LENGTH];
+        for (int i = 0; i < Backend.WORD_LENGTH; i++) {
+            word[i] = (char) ('a' + first + rand.nextInt(letters));
+        }
+        return PackedWords.pack(new String(word));
+    }
+}
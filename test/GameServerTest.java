@@ -0,0 +1,197 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives {@link GameServer} over localhost with HttpClient: starting games, guessing, finishing
+ * and ending them, and the session limit.
+ *
+ * The server runs on an ephemeral port over a word bank holding only "crane", so every game's
+ * target is known, with a guesses.txt next to it that allows a few more guesses.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+class GameServerTest {
+
+    private static final int MAX_SESSIONS = 2;
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f]+)\"");
+
+    @TempDir
+    Path dir;
+
+    private GameServer server;
+    private HttpClient client;
+    private URI base;
+
+    @BeforeEach
+    void start() throws IOException {
+        Path words = dir.resolve("words.txt");
+        Files.writeString(words, "crane\n");
+        Files.writeString(dir.resolve("guesses.txt"), "trace\nmoist\nslate\n");
+        server = new GameServer(WordBank.load(words.toString()), MAX_SESSIONS,
+            TimeUnit.MINUTES.toMillis(10));
+        InetSocketAddress address = server.start(new InetSocketAddress("localhost", 0));
+        base = URI.create("http://localhost:" + address.getPort());
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop();
+    }
+
+    @Test
+    void createsAGame() throws Exception {
+        HttpResponse<String> created = send("POST", "/games");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"guesses\":[]"), created.body());
+        assertTrue(created.body().contains("\"over\":false"), created.body());
+        assertFalse(created.body().contains("target"), created.body());
+        assertEquals(1, server.getSessionCount());
+
+        String id = id(created);
+        HttpResponse<String> shown = send("GET", "/games/" + id);
+        assertEquals(200, shown.statusCode());
+        assertEquals(created.body(), shown.body());
+    }
+
+    @Test
+    void scoresGuessesUntilSolved() throws Exception {
+        String id = id(send("POST", "/games"));
+
+        HttpResponse<String> miss = send("POST", "/games/" + id + "/guesses", "trace");
+        assertEquals(200, miss.statusCode());
+        assertTrue(miss.body().startsWith("{\"result\":\"iggyg\""), miss.body());
+        assertTrue(miss.body().contains("\"over\":false"), miss.body());
+
+        HttpResponse<String> hit = send("POST", "/games/" + id + "/guesses?word=CRANE");
+        assertEquals(200, hit.statusCode());
+        assertTrue(hit.body().contains("\"result\":\"ggggg\""), hit.body());
+        assertTrue(hit.body().contains("\"solved\":true,\"over\":true,\"target\":\"crane\""),
+            hit.body());
+
+        HttpResponse<String> late = send("POST", "/games/" + id + "/guesses", "slate");
+        assertEquals(409, late.statusCode());
+    }
+
+    @Test
+    void rejectsWordsOutsideTheGuessList() throws Exception {
+        String id = id(send("POST", "/games"));
+        HttpResponse<String> invalid = send("POST", "/games/" + id + "/guesses", "zzzzz");
+        assertEquals(400, invalid.statusCode());
+        assertEquals("{\"error\":\"\\\"zzzzz\\\" is not a valid Jordle guess.\"}",
+            invalid.body());
+        assertTrue(send("GET", "/games/" + id).body().contains("\"guesses\":[]"));
+    }
+
+    @Test
+    void endsAGameAfterSixMisses() throws Exception {
+        String id = id(send("POST", "/games"));
+        HttpResponse<String> guess = null;
+        for (int i = 0; i < Backend.MAX_GUESSES; i++) {
+            guess = send("POST", "/games/" + id + "/guesses", "moist");
+            assertEquals(200, guess.statusCode());
+        }
+        assertTrue(guess.body().contains("\"solved\":false,\"over\":true,\"target\":\"crane\""),
+            guess.body());
+        assertEquals(409, send("POST", "/games/" + id + "/guesses", "crane").statusCode());
+    }
+
+    @Test
+    void deletesAGame() throws Exception {
+        String id = id(send("POST", "/games"));
+        assertEquals(204, send("DELETE", "/games/" + id).statusCode());
+        assertEquals(0, server.getSessionCount());
+        assertEquals(404, send("GET", "/games/" + id).statusCode());
+        assertEquals(404, send("POST", "/games/" + id + "/guesses", "crane").statusCode());
+    }
+
+    @Test
+    void refusesGamesBeyondTheSessionLimit() throws Exception {
+        String first = id(send("POST", "/games"));
+        assertEquals(201, send("POST", "/games").statusCode());
+        assertEquals(503, send("POST", "/games").statusCode());
+        assertEquals(MAX_SESSIONS, server.getSessionCount());
+
+        send("DELETE", "/games/" + first);
+        assertEquals(201, send("POST", "/games").statusCode());
+        assertEquals(MAX_SESSIONS, server.getSessionCount());
+    }
+
+    @Test
+    void escapesControlCharactersInErrors() throws Exception {
+        String id = id(send("POST", "/games"));
+        HttpResponse<String> invalid = send("POST", "/games/" + id + "/guesses?word=a%22%5C%0A%01b");
+        assertEquals(400, invalid.statusCode());
+        assertEquals("{\"error\":\"\\\"a\\\"\\\\\\u000a\\u0001b\\\" is not a valid Jordle guess.\"}",
+            invalid.body());
+    }
+
+    @Test
+    void answersUnknownPathsWith404() throws Exception {
+        assertEquals(404, send("POST", "/gamesfoo").statusCode());
+        assertEquals(405, send("GET", "/games").statusCode());
+        String id = id(send("POST", "/games"));
+        assertEquals(404, send("GET", "/games/" + id + "/").statusCode());
+        assertEquals(404, send("POST", "/games/" + id + "/guessesx", "crane").statusCode());
+    }
+
+    /**
+     * Sends a request without a body.
+     *
+     * @param method the HTTP method
+     * @param path the path and query
+     * @return the response
+     * @throws Exception if the request failed
+     */
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        return send(method, path, null);
+    }
+
+    /**
+     * Sends a request.
+     *
+     * @param method the HTTP method
+     * @param path the path and query
+     * @param body the body, or null for none
+     * @return the response
+     * @throws Exception if the request failed
+     */
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Reads the id of a game from a response.
+     *
+     * @param response a response describing a game
+     * @return the id
+     */
+    private static String id(HttpResponse<String> response) {
+        Matcher matcher = ID.matcher(response.body());
+        assertTrue(matcher.find(), response.body());
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,258 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives {@link RaceServer} over localhost sockets: malformed frames, and the rows a player
+ * keeps while leaving, joining and moving between rooms.
+ *
+ * The server runs on an ephemeral port over a word bank holding only "crane", so every round's
+ * target is known, with a guesses.txt next to it that allows "moist" as a miss.
+ *
+ * @author Nawaf Alturayif
+ * @version 1.0
+ */
+class RaceServerTest {
+
+    private static final int CRANE = PackedWords.pack("crane");
+    private static final int MOIST = PackedWords.pack("moist");
+
+    @TempDir
+    Path dir;
+
+    private RaceServer server;
+    private Thread loop;
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void start() throws IOException {
+        Path words = dir.resolve("words.txt");
+        Files.writeString(words, "crane\n");
+        Files.writeString(dir.resolve("guesses.txt"), "moist\n");
+        server = new RaceServer(WordBank.load(words.toString()),
+            new InetSocketAddress("localhost", 0));
+        loop = new Thread(server, "race-server");
+        loop.start();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        server.stop();
+        loop.join(5000);
+    }
+
+    @Test
+    void closesTheConnectionAfterAMalformedLength() throws Exception {
+        Socket player = connect();
+        player.getOutputStream().write(new byte[] {0, 0, RaceServer.JOIN});
+        assertEquals(RaceServer.BAD_FRAME, expect(player, RaceServer.ERROR).get());
+        assertEquals(-1, player.getInputStream().read());
+    }
+
+    @Test
+    void closesTheConnectionAfterAWrongPayloadLength() throws Exception {
+        Socket player = connect();
+        send(player, RaceServer.JOIN, (short) 1);
+        assertEquals(RaceServer.BAD_FRAME, expect(player, RaceServer.ERROR).get());
+        assertEquals(-1, player.getInputStream().read());
+    }
+
+    @Test
+    void closesTheConnectionAfterAnUnknownType() throws Exception {
+        Socket player = connect();
+        send(player, RaceServer.WELCOME, 1);
+        assertEquals(RaceServer.BAD_FRAME, expect(player, RaceServer.ERROR).get());
+        assertEquals(-1, player.getInputStream().read());
+    }
+
+    @Test
+    void takesAPlayerSendingABadFrameOutOfItsRoom() throws Exception {
+        Socket rejected = connect();
+        Socket other = connect();
+        join(rejected, 1);
+        join(other, 1);
+        send(rejected, RaceServer.GUESS, (short) 0);
+        expect(rejected, RaceServer.ERROR);
+
+        // Only the other player is left, so its last miss ends the round.
+        for (int row = 0; row < 6; row++) {
+            send(other, RaceServer.GUESS, MOIST);
+            expect(other, RaceServer.RESULTS);
+        }
+        assertEquals(CRANE, expect(other, RaceServer.NEW_ROUND).getInt());
+    }
+
+    @Test
+    void keepsUsedRowsWhenLeavingAndJoiningAgain() throws Exception {
+        Socket spent = connect();
+        Socket other = connect();
+        int id = join(spent, 1);
+        join(other, 1);
+        for (int row = 0; row < 6; row++) {
+            send(spent, RaceServer.GUESS, MOIST);
+            ByteBuffer results = expect(spent, RaceServer.RESULTS);
+            assertEquals(1, results.getShort());
+            assertEquals(id, results.getInt());
+            assertEquals(row, results.get());
+            expect(other, RaceServer.RESULTS);
+        }
+        assertNoGuessesLeft(spent);
+
+        join(spent, 2);
+        assertNoGuessesLeft(spent);
+        join(spent, 1);
+        assertNoGuessesLeft(spent);
+    }
+
+    @Test
+    void joiningARoomDoesNotEndItsRound() throws Exception {
+        Socket spent = connect();
+        Socket other = connect();
+        join(spent, 1);
+        join(other, 1);
+        for (int row = 0; row < 6; row++) {
+            send(spent, RaceServer.GUESS, MOIST);
+            expect(spent, RaceServer.RESULTS);
+            expect(other, RaceServer.RESULTS);
+        }
+
+        // Room 2 only holds a player out of rows, but has had no guess, so its round goes on.
+        join(spent, 2);
+        Socket newcomer = connect();
+        int id = join(newcomer, 2);
+        send(newcomer, RaceServer.GUESS, MOIST);
+        ByteBuffer results = expect(newcomer, RaceServer.RESULTS);
+        assertEquals(1, results.getShort());
+        assertEquals(id, results.getInt());
+        expect(spent, RaceServer.RESULTS);
+    }
+
+    @Test
+    void givesRowsBackWhenTheRoundOfTheLastGuessEnds() throws Exception {
+        Socket spent = connect();
+        Socket other = connect();
+        join(spent, 1);
+        join(other, 1);
+        for (int row = 0; row < 6; row++) {
+            send(spent, RaceServer.GUESS, MOIST);
+            expect(spent, RaceServer.RESULTS);
+            expect(other, RaceServer.RESULTS);
+        }
+        join(spent, 2);
+        assertNoGuessesLeft(spent);
+
+        send(other, RaceServer.GUESS, CRANE);
+        ByteBuffer solved = expect(other, RaceServer.RESULTS);
+        solved.position(2 + Integer.BYTES + 1);
+        assertEquals(Backend.ALL_GREEN, solved.get() & 0xFF);
+        assertEquals(CRANE, expect(other, RaceServer.NEW_ROUND).getInt());
+
+        send(spent, RaceServer.GUESS, MOIST);
+        ByteBuffer results = expect(spent, RaceServer.RESULTS);
+        results.position(2 + Integer.BYTES);
+        assertEquals(0, results.get());
+    }
+
+    /**
+     * Opens a connection to the server.
+     *
+     * @return the socket
+     * @throws IOException if the connection failed
+     */
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("localhost", server.getAddress().getPort());
+        socket.setSoTimeout(5000);
+        sockets.add(socket);
+        return socket;
+    }
+
+    /**
+     * Joins a room.
+     *
+     * @param socket the player's connection
+     * @param room the room
+     * @return the player id
+     * @throws IOException if the connection failed
+     */
+    private static int join(Socket socket, int room) throws IOException {
+        send(socket, RaceServer.JOIN, room);
+        return expect(socket, RaceServer.WELCOME).getInt();
+    }
+
+    /**
+     * Checks that the player's next guess is refused for lack of rows.
+     *
+     * @param socket the player's connection
+     * @throws IOException if the connection failed
+     */
+    private static void assertNoGuessesLeft(Socket socket) throws IOException {
+        send(socket, RaceServer.GUESS, MOIST);
+        assertEquals(RaceServer.NO_GUESSES_LEFT, expect(socket, RaceServer.ERROR).get());
+    }
+
+    /**
+     * Sends a frame with an int payload.
+     *
+     * @param socket the connection
+     * @param type the frame type
+     * @param payload the payload
+     * @throws IOException if the connection failed
+     */
+    private static void send(Socket socket, byte type, int payload) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeShort(1 + Integer.BYTES);
+        out.writeByte(type);
+        out.writeInt(payload);
+        out.flush();
+    }
+
+    /**
+     * Sends a frame with a short payload, which no frame type has.
+     *
+     * @param socket the connection
+     * @param type the frame type
+     * @param payload the payload
+     * @throws IOException if the connection failed
+     */
+    private static void send(Socket socket, byte type, short payload) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeShort(1 + Short.BYTES);
+        out.writeByte(type);
+        out.writeShort(payload);
+        out.flush();
+    }
+
+    /**
+     * Reads the next frame and checks its type.
+     *
+     * @param socket the connection
+     * @param type the expected frame type
+     * @return the payload
+     * @throws IOException if the connection failed
+     */
+    private static ByteBuffer expect(Socket socket, byte type) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        int length = in.readUnsignedShort();
+        assertEquals(type, in.readByte());
+        byte[] payload = new byte[length - 1];
+        in.readFully(payload);
+        return ByteBuffer.wrap(payload);
+    }
+}